@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt cost 별로 코어 하나가 초당 처리하는 해시/검증 수를 측정합니다.
+ * <p>
+ * 로그인 한 건은 검증 한 번이므로, verify 점수 x password.hash.threads 가 초당 처리 가능한 로그인 수의 상한입니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class BcryptCostBenchmark {
+
+    private static final char[] PASSWORD = "Password1".toCharArray();
+
+    @Param({"4", "6", "8", "10", "12"})
+    private int cost;
+
+    private byte[] hash;
+
+    @Setup
+    public void setUp() {
+        hash = BCrypt.withDefaults().hash(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public byte[] hash() {
+        return BCrypt.withDefaults().hash(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return BCrypt.verifyer().verify(PASSWORD, hash).verified;
+    }
+}
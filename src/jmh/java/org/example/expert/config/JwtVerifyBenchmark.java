@@ -0,0 +1,81 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 JWT 인증 비용을 비교합니다.
+ * <ul>
+ *     <li>perClaimParsing: 기존 방식처럼 claim 마다 parser 를 새로 만들어 서명을 다시 검증합니다. (5회)</li>
+ *     <li>verifyOnce: 공유 parser 로 한 번만 검증하는 {@link JwtUtil#verify(String)} 입니다.</li>
+ *     <li>cachedVerify: 이미 검증한 토큰을 {@link VerifiedTokenCache} 에서 가져옵니다.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET_KEY = "c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, SECRET_KEY);
+        jwtUtil.init();
+
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, true, 1000);
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.USER, "nickname"));
+    }
+
+    @Benchmark
+    public AuthUser perClaimParsing() {
+        parse(token);
+        Long userId = Long.parseLong(parse(token).getSubject());
+        String email = parse(token).get("email", String.class);
+        UserRole userRole = UserRole.of(parse(token).get("userRole", String.class));
+        String nickname = parse(token).get("nickname", String.class);
+        return new AuthUser(userId, email, userRole, nickname);
+    }
+
+    @Benchmark
+    public AuthUser verifyOnce() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public AuthUser cachedVerify() {
+        return verifiedTokenCache.verify(token);
+    }
+
+    private Claims parse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -2,30 +2,53 @@ package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.example.expert.domain.admin.service.AdminAccessLog;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
-@Slf4j
+/**
+ * 관리자 컨트롤러 호출마다 요청 유저, HTTP 메서드, URI, 실행 시간, 결과를 {@link AdminAccessLog} 에 기록합니다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
     private final HttpServletRequest request;
+    private final AdminAccessLog adminAccessLog;
 
-    @Before("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
-    public void logAfterChangeUserRole(JoinPoint joinPoint) {
-        String userId = String.valueOf(request.getAttribute("userId"));
-        String requestUrl = request.getRequestURI();
-        LocalDateTime requestTime = LocalDateTime.now();
+    @Around("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
+    public Object logAdminAccess(ProceedingJoinPoint joinPoint) throws Throwable {
+        long timestampMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            adminAccessLog.record(
+                    currentUserId(),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    timestampMillis,
+                    System.nanoTime() - startNanos,
+                    failure == null ? null : failure.getClass().getSimpleName()
+            );
+        }
+    }
 
-        log.info("Admin Access Log - User ID: {}, Request Time: {}, Request URL: {}, Method: {}",
-                userId, requestTime, requestUrl, joinPoint.getSignature().getName());
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getId();
+        }
+        return null;
     }
 }
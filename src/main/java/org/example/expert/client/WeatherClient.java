@@ -1,30 +1,123 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.SocketTimeoutException;
 import java.net.URI;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * 날씨 API 클라이언트입니다.
+ * <p>
+ * 원격 서버가 느려져도 호출 스레드가 묶이지 않도록 연결/읽기 타임아웃을 두고,
+ * 실패나 느린 응답이 이어지면 서킷 브레이커가 열려 원격 호출 없이 바로 실패합니다.
+ * 동시에 호출할 수 있는 수는 벌크헤드로 제한하며, 세 가지 모두 메트릭(weather.client.timeouts, resilience4j.*)으로 노출됩니다.
+ * </p>
+ */
 @Component
 public class WeatherClient {
 
+    private static final String NAME = "weather";
+
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter timeoutCounter;
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            MeterRegistry meterRegistry,
+            @Value("${weather.client.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${weather.client.read-timeout:2s}") Duration readTimeout,
+            @Value("${weather.client.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${weather.client.circuit-breaker.slow-call-duration:1s}") Duration slowCallDuration,
+            @Value("${weather.client.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${weather.client.circuit-breaker.sliding-window-size:10}") int slidingWindowSize,
+            @Value("${weather.client.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitDurationInOpenState,
+            @Value("${weather.client.bulkhead.max-concurrent-calls:4}") int maxConcurrentCalls,
+            @Value("${weather.client.bulkhead.max-wait-duration:0s}") Duration maxWaitDuration
+    ) {
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.baseUrl = baseUrl;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWaitDuration)
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        this.timeoutCounter = Counter.builder("weather.client.timeouts")
+                .description("날씨 API 연결/읽기 타임아웃 횟수")
+                .register(meterRegistry);
     }
 
-    public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+    /**
+     * 날씨 API 에서 날짜(MM-dd)별 날씨 표 전체를 내려받습니다.
+     */
+    public Map<String, String> getWeatherTable() {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, this::fetchWeatherTable)).get();
+        } catch (CallNotPermittedException e) {
+            throw new ServerException("날씨 서비스가 일시적으로 차단되었습니다.");
+        } catch (BulkheadFullException e) {
+            throw new ServerException("날씨 서비스 동시 호출 수를 초과했습니다.");
+        }
+    }
+
+    private Map<String, String> fetchWeatherTable() {
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof SocketTimeoutException) {
+                timeoutCounter.increment();
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        } catch (RestClientException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        }
 
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
@@ -35,28 +128,19 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherTable = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            weatherTable.put(weatherDto.getDate(), weatherDto.getWeather());
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return Collections.unmodifiableMap(weatherTable);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
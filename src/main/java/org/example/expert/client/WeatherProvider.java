@@ -0,0 +1,131 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 오늘의 날씨를 메모리에 캐싱된 날씨 표에서 조회합니다.
+ * <p>
+ * 날씨 표는 날짜(MM-dd)별 전체 데이터이므로 한 번 내려받으면 날짜가 바뀌어도 그대로 사용할 수 있습니다.
+ * 애플리케이션 시작 시와 날짜가 바뀌기 전에 백그라운드에서 미리 갱신하며, 갱신에 실패하면 기존 표를 계속 사용합니다.
+ * 표가 아직 없을 때 여러 요청이 동시에 들어오면 한 번만 내려받고 나머지는 그 결과를 기다립니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class WeatherProvider {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final WeatherClient weatherClient;
+    private final Clock clock;
+    private final String fallbackWeather;
+
+    private volatile Map<String, String> weatherTable;
+    private final AtomicReference<CompletableFuture<Map<String, String>>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public WeatherProvider(WeatherClient weatherClient, @Value("${weather.fallback:}") String fallbackWeather) {
+        this(weatherClient, Clock.systemDefaultZone(), fallbackWeather);
+    }
+
+    WeatherProvider(WeatherClient weatherClient, Clock clock, String fallbackWeather) {
+        this.weatherClient = weatherClient;
+        this.clock = clock;
+        this.fallbackWeather = fallbackWeather;
+    }
+
+    /**
+     * 오늘의 날씨를 반환합니다. 날씨를 구할 수 없으면 설정된 대체 값을 사용하고, 대체 값이 없으면 예외가 발생합니다.
+     */
+    public String getTodayWeather() {
+        try {
+            return getWeather(LocalDate.now(clock));
+        } catch (ServerException e) {
+            if (!StringUtils.hasText(fallbackWeather)) {
+                throw e;
+            }
+            log.warn("날씨를 구할 수 없어 대체 값을 사용합니다. fallback={}, reason={}", fallbackWeather, e.getMessage());
+            return fallbackWeather;
+        }
+    }
+
+    public String getWeather(LocalDate date) {
+        return findWeather(date).orElseThrow(() ->
+                new ServerException(date.format(DATE_FORMATTER) + "에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 날씨 표에서 날짜의 날씨를 찾습니다. 표에 날짜가 없으면 빈 값을, 표를 내려받지 못하면 예외를 반환합니다.
+     */
+    public Optional<String> findWeather(LocalDate date) {
+        Map<String, String> table = weatherTable;
+        if (table == null) {
+            table = load();
+        }
+
+        return Optional.ofNullable(table.get(date.format(DATE_FORMATTER)));
+    }
+
+    /**
+     * 날씨 표를 미리 내려받습니다. 실패하면 기존 표를 유지하고, 다음 갱신이나 첫 조회 때 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${weather.refresh-cron:0 50 23 * * *}", scheduler = SchedulingConfig.WEATHER_REFRESH_SCHEDULER)
+    public void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신 실패, 기존 데이터를 계속 사용합니다.", e);
+        }
+    }
+
+    private Map<String, String> load() {
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> running = inFlight.compareAndExchange(null, future);
+        if (running != null) {
+            // 이미 다른 스레드가 내려받는 중이면 그 결과를 함께 사용합니다.
+            return join(running);
+        }
+
+        try {
+            Map<String, String> table = weatherClient.getWeatherTable();
+            weatherTable = table;
+            future.complete(table);
+            return table;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private static Map<String, String> join(CompletableFuture<Map<String, String>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 캐시 설정입니다. 캐시 구현과 크기/만료 정책은 application.yml 의 spring.cache 에서 지정하며,
+ * {@code spring.cache.type=none} 으로 캐시를 끌 수 있습니다.
+ * <p>
+ * 캐시 인터셉터를 트랜잭션보다 바깥에 두어, 쓰기 트랜잭션이 커밋된 뒤에 캐시가 무효화되도록 합니다.
+ * </p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    // 할 일 단건 조회 결과 (todoId -> TodoResponse)
+    public static final String TODO_DETAIL = "todoDetail";
+}
@@ -1,9 +1,9 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,10 +11,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.util.List;
@@ -24,6 +24,7 @@ import java.util.List;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -53,22 +54,11 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
-            }
-
-            Long userId = jwtUtil.getUserId(jwt);
-            String email = jwtUtil.getEmail(jwt);
-            UserRole userRole = jwtUtil.getUserRole(jwt);
-            String nickname = jwtUtil.getNickname(jwt);
-
-            AuthUser authUser = new AuthUser(userId, email, userRole, nickname);
+            // JWT 유효성 검사와 claims 추출 (한 번만 파싱합니다)
+            AuthUser authUser = verifiedTokenCache.verify(jwt);
 
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                    authUser, "", List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name()))
+                    authUser, "", List.of(new SimpleGrantedAuthority("ROLE_" + authUser.getUserRole().name()))
             );
 
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
@@ -97,6 +87,9 @@ public class JwtFilter implements Filter {
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+        } catch (ResponseStatusException e) {
+            log.warn("JWT 인증 실패: {}", e.getReason());
+            httpResponse.sendError(e.getStatusCode().value(), e.getReason());
         } catch (Exception e) {
             log.error("Internal server error", e);
             httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
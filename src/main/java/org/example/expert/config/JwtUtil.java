@@ -1,11 +1,13 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 
@@ -23,17 +26,24 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    // iat 는 초 단위라 같은 초의 폐기 전후를 구분할 수 없으므로, 발급 시각을 밀리초로 따로 담습니다.
+    private static final String ISSUED_AT_MILLIS = "iatMillis";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    // 빌드된 parser 는 불변이고 스레드 안전하므로 한 번 만들어 재사용합니다.
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, String username, UserRole userRole, String nickname) {
@@ -48,6 +58,7 @@ public class JwtUtil {
                         .claim("nickname", nickname)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
+                        .claim(ISSUED_AT_MILLIS, date.getTime())
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
@@ -60,41 +71,59 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 토큰의 서명과 만료를 한 번만 검증하고, 검증된 claims 로 인증 유저를 만듭니다.
+     */
+    public AuthUser verify(String token) {
+        return verifyToken(token).authUser();
+    }
+
+    /**
+     * {@link #verify(String)} 와 같지만, 캐싱에 필요한 발급/만료 시각을 함께 반환합니다.
+     */
+    public VerifiedToken verifyToken(String token) {
+        Claims claims = extractClaims(token);
+        AuthUser authUser = new AuthUser(getUserId(claims), getEmail(claims), getUserRole(claims), getNickname(claims));
+        return new VerifiedToken(authUser, getIssuedAt(claims), claims.getExpiration().toInstant());
+    }
+
+    private static Instant getIssuedAt(Claims claims) {
+        // 밀리초 발급 시각이 없는 이전 토큰은 초 단위 iat 를 사용합니다.
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        return issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis) : claims.getIssuedAt().toInstant();
     }
 
-    public Long getUserId(String token) {
+    private static Long getUserId(Claims claims) {
         try {
-            String userId = extractClaims(token).getSubject();
+            String userId = claims.getSubject();
             return Long.parseLong(userId);
         } catch (NumberFormatException e) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "잘못된 사용자 ID 형식입니다.");
         }
     }
 
-    public UserRole getUserRole(String token) {
+    private static UserRole getUserRole(Claims claims) {
         try {
-            String userRole = extractClaims(token).get("userRole", String.class);
+            String userRole = claims.get("userRole", String.class);
             return UserRole.of(userRole);
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "잘못된 사용자 권한입니다.");
         }
     }
 
-    public String getEmail(String token) {
-        String userEmail = extractClaims(token).get("email", String.class);
+    private static String getEmail(Claims claims) {
+        String userEmail = claims.get("email", String.class);
         if (userEmail == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이메일 정보가 없습니다.");
         }
         return userEmail;
     }
 
-    public String getNickname(String token) {
-        String userEmail = extractClaims(token).get("nickname", String.class);
+    private static String getNickname(Claims claims) {
+        String userEmail = claims.get("nickname", String.class);
         if (userEmail == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이메일 정보가 없습니다.");
         }
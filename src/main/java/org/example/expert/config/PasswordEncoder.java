@@ -1,17 +1,152 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * bcrypt 해시/검증을 전용 스레드 풀에서 실행합니다.
+ * <p>
+ * 동시에 실행되는 해시 연산은 threads 개, 대기는 queue-capacity 개로 제한해 로그인이 몰려도 CPU 를 다른 API 와 나눠 쓰도록 합니다.
+ * 풀과 대기열이 모두 찼거나 timeout 안에 끝나지 않으면 기다리지 않고 503 으로 응답합니다.
+ * 새 해시는 설정한 cost 로 만들고, 다른 cost 로 만들어진 기존 해시는 {@link #needsRehash(String)} 로 확인해 다시 해시할 수 있습니다.
+ * </p>
+ */
 @Component
 public class PasswordEncoder {
 
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.threads:2}") int threads,
+            @Value("${password.hash.queue-capacity:50}") int queueCapacity,
+            @Value("${password.hash.timeout:5s}") Duration timeout,
+            @Value("${password.hash.cost:4}") int cost
+    ) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost 는 " + BCrypt.MIN_COST + " 이상 " + BCrypt.MAX_COST + " 이하여야 합니다.");
+        }
+        this.cost = cost;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = timeout;
+
+        Gauge.builder("password.hash.queue.size", executor.getQueue(), BlockingQueue::size)
+                .description("실행을 기다리는 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("풀이 가득 차거나 시간 초과로 거절된 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> hash(rawPassword));
+    }
+
+    /**
+     * 요청 처리와 무관한 재해시용으로, 결과를 기다리지 않고 해시 풀에 작업을 넣습니다.
+     * 풀이 가득 차 있으면 실패한 future 를 반환합니다.
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> hash(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("비밀번호 해시 풀이 가득 찼습니다."));
+        }
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> matchesTimer.record(() ->
+                BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified));
+    }
+
+    /**
+     * 해시의 cost 가 설정한 cost 와 다르면 true 를 반환합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    private String hash(String rawPassword) {
+        return encodeTimer.record(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 }
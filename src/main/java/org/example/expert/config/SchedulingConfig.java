@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 작업의 스케줄러 설정입니다.
+ * <p>
+ * 날씨 작업과 감사 로그 flush 는 각자의 스케줄러(스레드)에서 실행해, 날씨 표를 내려받는 HTTP 호출이나 DB 쓰기가
+ * 느려져도 다른 작업이 밀리지 않게 합니다. scheduler 를 지정하지 않은 작업은 spring.task.scheduling 설정을 따르는
+ * 기본 스케줄러(taskScheduler)에서 실행됩니다.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 날씨 표 갱신 (외부 HTTP 호출)
+    public static final String WEATHER_REFRESH_SCHEDULER = "weatherRefreshTaskScheduler";
+    // 일정 날씨 채우기와 재처리
+    public static final String TODO_WEATHER_SCHEDULER = "todoWeatherTaskScheduler";
+    // 감사 로그 flush
+    public static final String AUDIT_LOG_SCHEDULER = "auditLogTaskScheduler";
+
+    /**
+     * 전용 스케줄러 빈이 있으면 Spring Boot 가 기본 스케줄러를 만들지 않으므로 직접 등록합니다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(WEATHER_REFRESH_SCHEDULER)
+    public ThreadPoolTaskScheduler weatherRefreshTaskScheduler() {
+        return singleThreadScheduler("weather-refresh-");
+    }
+
+    @Bean(TODO_WEATHER_SCHEDULER)
+    public ThreadPoolTaskScheduler todoWeatherTaskScheduler() {
+        return singleThreadScheduler("todo-weather-");
+    }
+
+    @Bean(AUDIT_LOG_SCHEDULER)
+    public ThreadPoolTaskScheduler auditLogTaskScheduler() {
+        return singleThreadScheduler("audit-log-");
+    }
+
+    private static ThreadPoolTaskScheduler singleThreadScheduler(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        return scheduler;
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Bean
     public SecurityFilterChain customSecurityFilterChain(HttpSecurity http) throws Exception {
@@ -37,23 +38,30 @@ public class SecurityConfig {
 
                         // Manager (매니저 생성, 조회 및 삭제)
                         .requestMatchers(HttpMethod.POST, "/todos/*/managers").hasRole(UserRole.USER.name())
+                        .requestMatchers(HttpMethod.POST, "/todos/managers/batch").hasRole(UserRole.USER.name())
                         .requestMatchers(HttpMethod.GET, "/todos/*/managers").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/todos/*/managers/*").hasRole(UserRole.USER.name())
 
                         // To do (To do 생성 및 조회)
                         .requestMatchers(HttpMethod.POST, "/todos").hasRole(UserRole.USER.name())
+                        .requestMatchers(HttpMethod.POST, "/todos/batch").hasRole(UserRole.USER.name())
                         .requestMatchers(HttpMethod.GET, "/todos").permitAll()
+                        // 전체 일정과 작성자 이메일을 내보내므로 아래 와일드카드보다 먼저 막아야 합니다.
+                        .requestMatchers(HttpMethod.GET, "/todos/export").hasRole(UserRole.ADMIN.name())
                         .requestMatchers(HttpMethod.GET, "/todos/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/todos/search/slice").permitAll()
 
                         // User (User 조회 및 수정)
                         .requestMatchers(HttpMethod.GET, "/users/*").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/users").hasRole(UserRole.USER.name())
 
-                        // Admin (User 역할 변경)
+                        // Admin (User 역할 변경, To do 카운터 재계산, 접근 기록 조회)
                         .requestMatchers(HttpMethod.PATCH, "/admin/users/*").hasRole(UserRole.ADMIN.name())
+                        .requestMatchers(HttpMethod.POST, "/admin/todos/counters/recount").hasRole(UserRole.ADMIN.name())
+                        .requestMatchers(HttpMethod.GET, "/admin/access-log").hasRole(UserRole.ADMIN.name())
                         .anyRequest().hasRole(UserRole.ADMIN.name())
                 )
-                .addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtFilter(jwtUtil, verifiedTokenCache), UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 }
@@ -0,0 +1,11 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 검증을 마친 토큰의 인증 유저와 발급/만료 시각입니다.
+ */
+public record VerifiedToken(AuthUser authUser, Instant issuedAt, Instant expiresAt) {
+}
@@ -0,0 +1,123 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증을 마친 JWT 의 인증 유저를 토큰 만료 시각까지 캐싱합니다.
+ * <p>
+ * 같은 토큰으로 들어오는 요청은 서명 검증과 claims 파싱 없이 캐시에서 인증 유저를 가져옵니다.
+ * 키는 토큰 원문 대신 SHA-256 digest 를 사용합니다.
+ * 권한 변경이나 비밀번호 변경 시 {@link #revokeAfterCommit(long)} 를 호출하면 커밋 시각 이전에 발급된 해당 유저의 토큰은 캐시 여부와 관계없이 거부됩니다.
+ * 폐기 기록은 토큰 유효 시간이 지나면 필요 없으므로 그만큼만 보관하며, 인스턴스 메모리에만 있습니다.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+    private final Cache<Long, Instant> revokedBefore;
+
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:100000}") long maximumSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    // 토큰마다 남은 유효 시간만큼만 캐싱합니다.
+                    @Override
+                    public long expireAfterCreate(ByteBuffer digest, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(JwtUtil.TOKEN_TIME))
+                .build();
+    }
+
+    /**
+     * 토큰을 검증하고 인증 유저를 반환합니다. 캐시에 있으면 검증을 생략합니다.
+     */
+    public AuthUser verify(String token) {
+        VerifiedToken verifiedToken = enabled
+                ? verifiedTokens.get(digest(token), digest -> jwtUtil.verifyToken(token))
+                : jwtUtil.verifyToken(token);
+
+        AuthUser authUser = verifiedToken.authUser();
+        Instant revokedAt = revokedBefore.getIfPresent(authUser.getId());
+        // 발급 시각은 밀리초 단위이므로, 폐기와 같은 초에 그보다 먼저 발급된 토큰도 거부합니다.
+        if (revokedAt != null && verifiedToken.issuedAt().isBefore(revokedAt)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "더 이상 사용할 수 없는 JWT 토큰입니다. 다시 로그인해 주세요.");
+        }
+        return authUser;
+    }
+
+    /**
+     * 지금까지 발급된 해당 유저의 토큰을 모두 사용할 수 없게 합니다.
+     */
+    public void revoke(long userId) {
+        revokedBefore.put(userId, Instant.now());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 {@link #revoke(long)} 합니다. 트랜잭션이 없으면 바로 폐기합니다.
+     * <p>
+     * 커밋 전에 폐기하면, 그 사이 기존 권한이나 비밀번호로 로그인해 받은 토큰이 폐기 시각 이후 발급으로 취급되어 계속 유효합니다.
+     * 롤백되면 폐기하지 않습니다.
+     * </p>
+     */
+    public void revokeAfterCommit(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revoke(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoke(userId);
+            }
+        });
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
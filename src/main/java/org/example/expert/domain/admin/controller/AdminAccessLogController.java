@@ -0,0 +1,31 @@
+package org.example.expert.domain.admin.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.admin.dto.response.AdminAccessEvent;
+import org.example.expert.domain.admin.service.AdminAccessLog;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminAccessLogController {
+
+    private final AdminAccessLog adminAccessLog;
+
+    /**
+     * 최근 관리자 접근 기록을 최신순으로 조회합니다.
+     *
+     * @param userId 지정하면 해당 유저의 기록만 조회합니다.
+     */
+    @GetMapping("/admin/access-log")
+    public ResponseEntity<List<AdminAccessEvent>> getAccessLog(
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Long userId
+    ) {
+        return ResponseEntity.ok(adminAccessLog.findRecent(limit, userId));
+    }
+}
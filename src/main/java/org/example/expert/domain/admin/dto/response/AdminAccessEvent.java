@@ -0,0 +1,21 @@
+package org.example.expert.domain.admin.dto.response;
+
+import java.time.Instant;
+
+/**
+ * 관리자 API 호출 한 건의 접근 기록입니다.
+ *
+ * @param userId        요청한 유저 id, 인증 정보가 없으면 {@code null}
+ * @param latencyMicros 컨트롤러 실행 시간(마이크로초)
+ * @param error         실패 시 예외 타입, 성공이면 {@code null}
+ */
+public record AdminAccessEvent(
+        Instant timestamp,
+        Long userId,
+        String method,
+        String uri,
+        long latencyMicros,
+        boolean success,
+        String error
+) {
+}
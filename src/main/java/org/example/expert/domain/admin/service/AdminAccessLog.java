@@ -0,0 +1,172 @@
+package org.example.expert.domain.admin.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.admin.dto.response.AdminAccessEvent;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 접근 기록을 미리 할당한 링 버퍼에 담습니다.
+ * <p>
+ * 기록하는 쪽은 시퀀스 하나를 발급받아 해당 슬롯의 필드를 덮어쓰기만 하므로 객체를 만들거나 락을 잡지 않습니다.
+ * 백그라운드 drain 이 주기적으로 새 기록을 읽어 JSON 파일로 내보내고, 조회 API 는 버퍼에 남은 최근 기록을 그대로 읽습니다.
+ * drain 보다 기록이 빨라 한 바퀴 이상 밀리면 덮어쓰인 기록은 파일에 남지 않고 카운터로만 집계됩니다.
+ * </p>
+ */
+@Component
+public class AdminAccessLog {
+
+    private static final long NO_USER = -1L;
+    private static final long WRITING = -1L;
+
+    private final AdminAccessLogFile accessLogFile;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final Counter lostCounter;
+    private long drainedSequence;
+
+    public AdminAccessLog(
+            AdminAccessLogFile accessLogFile,
+            MeterRegistry meterRegistry,
+            @Value("${admin-access-log.capacity:4096}") int capacity
+    ) {
+        this.accessLogFile = accessLogFile;
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.lostCounter = Counter.builder("admin.access.log.lost")
+                .description("파일로 내보내기 전에 덮어쓰인 관리자 접근 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접근 기록 한 건을 버퍼에 씁니다.
+     */
+    public void record(Long userId, String method, String uri, long timestampMillis, long latencyNanos, String error) {
+        long sequence = nextSequence.getAndIncrement();
+        Slot slot = slots[(int) (sequence & mask)];
+
+        // 쓰는 동안에는 WRITING 으로 표시해 읽는 쪽이 반쯤 쓴 값을 가져가지 않도록 합니다.
+        slot.sequence = WRITING;
+        VarHandle.storeStoreFence();
+        slot.userId = userId == null ? NO_USER : userId;
+        slot.method = method;
+        slot.uri = uri;
+        slot.timestampMillis = timestampMillis;
+        slot.latencyNanos = latencyNanos;
+        slot.error = error;
+        slot.sequence = sequence;
+    }
+
+    /**
+     * 버퍼에 남아 있는 최근 기록을 최신순으로 반환합니다.
+     */
+    public List<AdminAccessEvent> findRecent(int limit, Long userId) {
+        if (limit < 1 || limit > slots.length) {
+            throw new InvalidRequestException("limit은 1 이상 " + slots.length + " 이하여야 합니다.");
+        }
+
+        List<AdminAccessEvent> events = new ArrayList<>(limit);
+        long last = nextSequence.get() - 1;
+        long first = Math.max(0, last - mask);
+        for (long sequence = last; sequence >= first && events.size() < limit; sequence--) {
+            AdminAccessEvent event = read(sequence);
+            if (event != null && (userId == null || userId.equals(event.userId()))) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    @Scheduled(fixedDelayString = "${admin-access-log.drain-interval-ms:1000}")
+    public synchronized void drain() {
+        long end = nextSequence.get();
+        long sequence = drainedSequence;
+        if (end - sequence > slots.length) {
+            lostCounter.increment(end - sequence - slots.length);
+            sequence = end - slots.length;
+        }
+
+        List<AdminAccessEvent> events = new ArrayList<>();
+        for (; sequence < end; sequence++) {
+            long published = slots[(int) (sequence & mask)].sequence;
+            if (published == WRITING || published < sequence) {
+                // 아직 쓰는 중인 슬롯이면 다음 drain 에서 이어서 읽습니다.
+                break;
+            }
+            AdminAccessEvent event = published == sequence ? read(sequence) : null;
+            if (event == null) {
+                lostCounter.increment();
+                continue;
+            }
+            events.add(event);
+        }
+        drainedSequence = sequence;
+
+        if (!events.isEmpty()) {
+            accessLogFile.write(events);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        drain();
+    }
+
+    /**
+     * 슬롯이 읽는 동안 덮어쓰이지 않았을 때만 기록을 반환합니다.
+     */
+    private AdminAccessEvent read(long sequence) {
+        Slot slot = slots[(int) (sequence & mask)];
+        if (slot.sequence != sequence) {
+            return null;
+        }
+
+        long userId = slot.userId;
+        String method = slot.method;
+        String uri = slot.uri;
+        long timestampMillis = slot.timestampMillis;
+        long latencyNanos = slot.latencyNanos;
+        String error = slot.error;
+
+        VarHandle.acquireFence();
+        if (slot.sequence != sequence) {
+            return null;
+        }
+
+        return new AdminAccessEvent(
+                Instant.ofEpochMilli(timestampMillis),
+                userId == NO_USER ? null : userId,
+                method,
+                uri,
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+                error == null,
+                error
+        );
+    }
+
+    private static final class Slot {
+        private volatile long sequence = WRITING;
+        private long userId;
+        private String method;
+        private String uri;
+        private long timestampMillis;
+        private long latencyNanos;
+        private String error;
+    }
+}
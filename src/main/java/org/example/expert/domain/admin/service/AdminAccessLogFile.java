@@ -0,0 +1,92 @@
+package org.example.expert.domain.admin.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.admin.dto.response.AdminAccessEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 관리자 접근 기록을 한 줄에 하나씩 JSON 으로 파일에 남깁니다.
+ * <p>
+ * 파일이 max-size 를 넘으면 {@code 파일명.1}, {@code 파일명.2} ... 로 밀어내고 max-history 개까지만 보관합니다.
+ * path 를 비우면 파일로 남기지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AdminAccessLogFile {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final long maxSize;
+    private final int maxHistory;
+
+    public AdminAccessLogFile(
+            ObjectMapper objectMapper,
+            @Value("${admin-access-log.file.path:logs/admin-access.json}") String path,
+            @Value("${admin-access-log.file.max-size:10MB}") DataSize maxSize,
+            @Value("${admin-access-log.file.max-history:5}") int maxHistory
+    ) {
+        this.objectMapper = objectMapper;
+        this.path = StringUtils.hasText(path) ? Path.of(path) : null;
+        this.maxSize = maxSize.toBytes();
+        this.maxHistory = maxHistory;
+    }
+
+    public void write(List<AdminAccessEvent> events) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            rollIfNeeded();
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AdminAccessEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("관리자 접근 기록 직렬화 실패", e);
+        } catch (IOException e) {
+            log.warn("관리자 접근 기록 파일 쓰기 실패, {}건을 버립니다. path={}", events.size(), path, e);
+        }
+    }
+
+    private void rollIfNeeded() throws IOException {
+        if (!Files.exists(path)) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            return;
+        }
+        if (Files.size(path) < maxSize) {
+            return;
+        }
+
+        Files.deleteIfExists(rolled(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
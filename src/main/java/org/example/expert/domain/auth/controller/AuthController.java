@@ -1,12 +1,15 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninThrottle;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final SigninThrottle signinThrottle;
 
     @PostMapping("/auth/signup")
     public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
@@ -23,7 +27,20 @@ public class AuthController {
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        // DB 조회와 bcrypt 검증 전에 IP 와 이메일 버킷에서 토큰을 꺼냅니다.
+        signinThrottle.acquire(signinRequest.getEmail(), request.getRemoteAddr());
+        SigninResponse response;
+        try {
+            response = authService.signin(signinRequest);
+        } catch (AuthException e) {
+            // 비밀번호가 틀린 경우에는 꺼낸 이메일 토큰을 돌려주지 않습니다.
+            throw e;
+        } catch (RuntimeException e) {
+            signinThrottle.release(signinRequest.getEmail());
+            throw e;
+        }
+        signinThrottle.release(signinRequest.getEmail());
+        return response;
     }
 }
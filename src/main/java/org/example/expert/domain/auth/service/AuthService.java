@@ -13,6 +13,7 @@ import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -23,8 +24,13 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordRehashService passwordRehashService;
 
-    @Transactional
+    /**
+     * 비밀번호 해시는 bcrypt 풀에서 최대 password.hash.timeout 만큼 기다릴 수 있으므로,
+     * 그동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다. 조회와 저장은 각각 리포지토리의 짧은 트랜잭션에서 수행됩니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
@@ -48,6 +54,10 @@ public class AuthService {
         return new SignupResponse(bearerToken);
     }
 
+    /**
+     * 회원가입과 같은 이유로 트랜잭션 없이 실행해, 비밀번호를 비교하는 동안 DB 커넥션을 잡고 있지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -57,6 +67,10 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            passwordRehashService.rehashAsync(user.getId(), signinRequest.getPassword(), user.getPassword());
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole(), user.getNickname());
 
         return new SigninResponse(bearerToken);
@@ -0,0 +1,63 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인에 성공한 유저의 비밀번호 해시가 설정한 cost 와 다르면 백그라운드에서 다시 해시합니다.
+ * <p>
+ * 로그인 응답을 기다리게 하지 않도록 해시 풀에서 비동기로 해시하고, 저장은 별도 스레드에서 실행해
+ * DB 대기가 bcrypt 스레드를 붙잡지 않게 합니다.
+ * 저장은 기존 해시가 그대로일 때만 갱신하므로 그 사이의 비밀번호 변경을 덮어쓰지 않습니다.
+ * 풀이 가득 찼거나 실패하면 다음 로그인에서 다시 시도합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PasswordRehashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor updateExecutor;
+
+    public PasswordRehashService(
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            @Value("${password.rehash.queue-capacity:100}") int queueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.updateExecutor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-rehash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public void rehashAsync(long userId, String rawPassword, String currentPassword) {
+        passwordEncoder.encodeAsync(rawPassword)
+                .thenAcceptAsync(newPassword -> {
+                    int updated = userRepository.updatePasswordIfUnchanged(userId, currentPassword, newPassword);
+                    log.debug("비밀번호 재해시 - userId={}, updated={}", userId, updated);
+                }, updateExecutor)
+                .exceptionally(e -> {
+                    log.warn("비밀번호 재해시 실패, 다음 로그인에서 다시 시도합니다. userId={}, reason={}", userId, e.getMessage());
+                    return null;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdown();
+    }
+}
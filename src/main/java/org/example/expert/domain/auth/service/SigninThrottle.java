@@ -0,0 +1,203 @@
+package org.example.expert.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도를 클라이언트 IP별, 이메일별 토큰 버킷으로 제한합니다.
+ * <p>
+ * IP 버킷과 이메일 버킷 모두 시도 전에 토큰을 하나씩 꺼내며, 어느 한쪽이라도 비어 있으면 DB 조회나 bcrypt 검증 없이
+ * 바로 429 로 거절합니다. 확인과 차감을 한 번에 하므로 동시에 들어온 시도도 버킷에 남은 토큰 수만큼만 통과합니다.
+ * 로그인에 성공했거나 비밀번호 검증까지 가지 않은 시도는 {@link #release(String)} 로 이메일 토큰을 돌려받으므로,
+ * 결국 이메일 버킷에는 비밀번호가 틀린 시도만 남습니다. 돌려받아 가득 찬 버킷은 캐시에서 지워,
+ * 가짜 이메일로 키 캐시를 채워 실제 버킷을 밀어낼 수 없습니다.
+ * 버킷은 키 수가 제한된 Caffeine 캐시에 두고, idle-timeout 동안 시도가 없던 키는 제거합니다.
+ * 버킷마다 따로 락을 잡으므로 서로 다른 계정/IP 의 시도는 경합하지 않습니다.
+ * </p>
+ */
+@Component
+public class SigninThrottle {
+
+    private final boolean enabled;
+    private final Limiter emailLimiter;
+    private final Limiter ipLimiter;
+
+    @Autowired
+    public SigninThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${auth.signin-throttle.enabled:true}") boolean enabled,
+            @Value("${auth.signin-throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.signin-throttle.email.refill-interval:1m}") Duration emailRefillInterval,
+            @Value("${auth.signin-throttle.ip.capacity:50}") int ipCapacity,
+            @Value("${auth.signin-throttle.ip.refill-interval:1s}") Duration ipRefillInterval,
+            @Value("${auth.signin-throttle.maximum-keys:100000}") long maximumKeys,
+            @Value("${auth.signin-throttle.idle-timeout:30m}") Duration idleTimeout
+    ) {
+        this(meterRegistry, enabled, emailCapacity, emailRefillInterval, ipCapacity, ipRefillInterval,
+                maximumKeys, idleTimeout, Ticker.systemTicker());
+    }
+
+    SigninThrottle(MeterRegistry meterRegistry, boolean enabled,
+                   int emailCapacity, Duration emailRefillInterval,
+                   int ipCapacity, Duration ipRefillInterval,
+                   long maximumKeys, Duration idleTimeout, Ticker ticker) {
+        this.enabled = enabled;
+        this.emailLimiter = new Limiter("email", emailCapacity, emailRefillInterval, maximumKeys, idleTimeout, ticker, meterRegistry);
+        this.ipLimiter = new Limiter("ip", ipCapacity, ipRefillInterval, maximumKeys, idleTimeout, ticker, meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 한 번을 허용할지 확인하고, 허용하지 않으면 예외를 던집니다.
+     * IP 버킷과 이메일 버킷에서 토큰을 하나씩 꺼냅니다.
+     */
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        ipLimiter.acquire(clientIp);
+        emailLimiter.acquire(normalize(email));
+    }
+
+    /**
+     * 비밀번호가 틀린 시도가 아니었다면 acquire 에서 꺼낸 이메일 토큰을 돌려줍니다.
+     */
+    public void release(String email) {
+        if (!enabled) {
+            return;
+        }
+
+        emailLimiter.release(normalize(email));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Limiter {
+
+        private final int capacity;
+        private final long refillIntervalNanos;
+        private final Ticker ticker;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter allowedCounter;
+        private final Counter rejectedCounter;
+
+        private Limiter(String name, int capacity, Duration refillInterval, long maximumKeys, Duration idleTimeout,
+                        Ticker ticker, MeterRegistry meterRegistry) {
+            this.capacity = capacity;
+            this.refillIntervalNanos = refillInterval.toNanos();
+            this.ticker = ticker;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(idleTimeout)
+                    .ticker(ticker)
+                    .build();
+
+            this.allowedCounter = Counter.builder("auth.signin.throttle")
+                    .description("로그인 시도 제한 결과")
+                    .tag("key", name)
+                    .tag("result", "allowed")
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("auth.signin.throttle")
+                    .description("로그인 시도 제한 결과")
+                    .tag("key", name)
+                    .tag("result", "rejected")
+                    .register(meterRegistry);
+            Gauge.builder("auth.signin.throttle.keys", buckets, Cache::estimatedSize)
+                    .description("추적 중인 로그인 제한 키 수")
+                    .tag("key", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 토큰을 하나 꺼내고, 없으면 거절합니다.
+         * 키별 compute 안에서 꺼내므로 release 가 같은 버킷을 지우는 것과 겹치지 않습니다.
+         */
+        private void acquire(String key) {
+            long[] waitNanos = new long[1];
+            buckets.asMap().compute(key, (k, bucket) -> {
+                TokenBucket target = bucket == null ? new TokenBucket(capacity, ticker.read()) : bucket;
+                waitNanos[0] = target.tryConsume(capacity, refillIntervalNanos, ticker.read());
+                return target;
+            });
+            reject(waitNanos[0]);
+        }
+
+        /**
+         * 토큰을 하나 돌려주고, 버킷이 가득 차면 캐시에서 지웁니다.
+         */
+        private void release(String key) {
+            buckets.asMap().computeIfPresent(key, (k, bucket) ->
+                    bucket.refund(capacity, refillIntervalNanos, ticker.read()) ? null : bucket);
+        }
+
+        private void reject(long waitNanos) {
+            if (waitNanos > 0) {
+                rejectedCounter.increment();
+                throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+            }
+            allowedCounter.increment();
+        }
+    }
+
+    /**
+     * refillIntervalNanos 마다 토큰이 하나씩, capacity 개까지 채워지는 버킷입니다.
+     */
+    private static final class TokenBucket {
+
+        private long tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(long tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        /**
+         * 토큰을 하나 꺼내고 0 을 반환합니다. 토큰이 없으면 다음 토큰까지 남은 시간(나노초)을 반환합니다.
+         */
+        private synchronized long tryConsume(int capacity, long refillIntervalNanos, long nowNanos) {
+            long waitNanos = waitNanos(capacity, refillIntervalNanos, nowNanos);
+            if (waitNanos == 0) {
+                tokens--;
+            }
+            return waitNanos;
+        }
+
+        /**
+         * 토큰을 하나 돌려주고, 버킷이 가득 찼는지 반환합니다.
+         */
+        private synchronized boolean refund(int capacity, long refillIntervalNanos, long nowNanos) {
+            waitNanos(capacity, refillIntervalNanos, nowNanos);
+            tokens = Math.min(capacity, tokens + 1);
+            return tokens == capacity;
+        }
+
+        /**
+         * 토큰이 남아 있으면 0 을, 없으면 다음 토큰까지 남은 시간(나노초)을 반환합니다.
+         */
+        private synchronized long waitNanos(int capacity, long refillIntervalNanos, long nowNanos) {
+            long refilled = (nowNanos - lastRefillNanos) / refillIntervalNanos;
+            if (refilled > 0) {
+                tokens = Math.min(capacity, tokens + refilled);
+                lastRefillNanos = tokens == capacity ? nowNanos : lastRefillNanos + refilled * refillIntervalNanos;
+            }
+
+            return tokens > 0 ? 0 : lastRefillNanos + refillIntervalNanos - nowNanos;
+        }
+    }
+}
@@ -8,18 +8,23 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.service.TodoETagService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final TodoETagService todoETagService;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -30,8 +35,42 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    /**
+     * <p>
+     * 댓글을 작성순으로 커서 기반 조회합니다.
+     * 응답의 {@code nextCursor}를 다음 요청의 {@code cursor}로 전달하면 이어서 조회할 수 있습니다.
+     * </p>
+     *
+     * @param todoId 할 일 ID
+     * @param cursor 이전 응답에서 받은 커서 (첫 페이지는 생략)
+     * @param limit 한 번에 조회할 댓글 수
+     * @return 댓글 목록과 다음 커서 {@link CursorResponse<CommentResponse>}
+     */
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<CursorResponse<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest
+    ) {
+        Optional<String> eTag = todoETagService.findETag(todoId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag.orElse(null)).body(commentService.getComments(todoId, cursor, limit));
+    }
+
+    /**
+     * <p>
+     * {@code all=true}를 지정하면 기존과 같이 댓글 전체를 한 번에 조회합니다.
+     * </p>
+     */
+    @GetMapping(value = "/todos/{todoId}/comments", params = "all=true")
+    public ResponseEntity<List<CommentResponse>> getAllComments(@PathVariable long todoId, WebRequest webRequest) {
+        Optional<String> eTag = todoETagService.findETag(todoId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag.orElse(null)).body(commentService.getAllComments(todoId));
     }
 }
@@ -1,14 +1,27 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN fetch c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    List<Comment> findPageByTodoIdWithUser(@Param("todoId") Long todoId, Pageable pageable);
+
+    /**
+     * 커서 이후의 댓글을 (createdAt, id) 오름차순으로 조회합니다. (todo_id, created_at, id) 인덱스로 시작 위치를 바로 찾습니다.
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findByTodoIdWithUserAfter(@Param("todoId") Long todoId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -1,17 +1,24 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.CacheConfig;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cursor.SeekCursor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,14 +30,20 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_LIMIT = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoOwnerCache todoOwnerCache;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_DETAIL, key = "#todoId")
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
+        // 일정 엔티티를 읽지 않고 존재 여부만 확인한 뒤, 외래 키로 쓸 참조만 가져옵니다.
+        todoOwnerCache.findOwnerId(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -39,6 +52,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.increaseCommentCount(todo.getId());
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,7 +61,40 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 확인하기 위해 limit + 1 개를 조회합니다.
+        SeekCursor seekCursor = SeekCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Comment> comments = seekCursor == null
+                ? commentRepository.findPageByTodoIdWithUser(todoId, pageable)
+                : commentRepository.findByTodoIdWithUserAfter(todoId, seekCursor.timestamp(), seekCursor.id(), pageable);
+
+        boolean hasNext = comments.size() > limit;
+        List<Comment> content = hasNext ? comments.subList(0, limit) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = new SeekCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(content.stream().map(CommentService::toCommentResponse).toList(), nextCursor);
+    }
+
+    private static CommentResponse toCommentResponse(Comment comment) {
+        User user = comment.getUser();
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
+    }
+
+    public List<CommentResponse> getAllComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
         List<CommentResponse> dtoList = new ArrayList<>();
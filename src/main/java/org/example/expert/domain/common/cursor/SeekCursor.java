@@ -0,0 +1,46 @@
+package org.example.expert.domain.common.cursor;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset 페이지네이션에서 "마지막으로 읽은 행"의 위치를 나타내는 커서입니다.
+ * <p>
+ * (timestamp, id) 쌍을 seek key로 사용하며, 클라이언트에게는 Base64 URL-safe 문자열로 인코딩된
+ * 불투명(opaque) 값으로만 노출됩니다.
+ * </p>
+ */
+public record SeekCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 값이 없으면 첫 페이지를 의미하므로 {@code null}을 반환합니다.
+     */
+    public static SeekCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new SeekCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
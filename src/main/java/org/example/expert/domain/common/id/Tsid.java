@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 생성하는 시간 순 64비트 ID(TSID)를 사용하는 식별자에 붙입니다.
+ * <p>
+ * ID가 INSERT 전에 정해지므로 JDBC 배치가 가능하고, 생성 순서대로 증가하기 때문에 기본 키 순서가 생성 시각 순서와 같습니다.
+ * 노드 번호는 {@code hibernate.id.tsid.node} 설정으로 지정합니다.
+ * </p>
+ *
+ * @see TsidFactory
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
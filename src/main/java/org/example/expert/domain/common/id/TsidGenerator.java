@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * {@link Tsid}가 붙은 식별자에 {@link TsidFactory}로 만든 ID를 할당합니다.
+ */
+public class TsidGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_SETTING = "hibernate.id.tsid.node";
+
+    private final TsidFactory factory;
+
+    public TsidGenerator(Tsid config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configurationService = context.getServiceRegistry().requireService(ConfigurationService.class);
+        Object node = configurationService.getSettings().get(NODE_SETTING);
+        this.factory = TsidFactory.forNode(node == null ? 0 : Integer.parseInt(node.toString().trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return factory.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
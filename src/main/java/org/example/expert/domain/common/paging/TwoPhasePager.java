@@ -0,0 +1,69 @@
+package org.example.expert.domain.common.paging;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * ID 우선(two-phase) 페이지네이션 도우미입니다.
+ * <p>
+ * 컬렉션을 fetch join 하면서 offset/limit 을 함께 쓰면 Hibernate가 전체 결과를 메모리에서 잘라내므로(HHH90003004),
+ * 1단계에서 정렬과 필터만으로 한 페이지의 ID를 조회하고 2단계에서 해당 ID들을 {@code IN} 조건과 fetch join 으로 채운 뒤
+ * 1단계의 순서대로 다시 정렬합니다.
+ * </p>
+ */
+public final class TwoPhasePager {
+
+    private TwoPhasePager() {
+    }
+
+    /**
+     * @param pageable  페이지 정보
+     * @param idQuery   정렬과 필터가 적용된 한 페이지 분량의 ID 조회 (offset, limit은 pageable 기준)
+     * @param hydrator  ID 목록으로 엔티티와 연관 데이터를 조회 (순서는 보장하지 않아도 됩니다)
+     * @param idMapper  조회된 엔티티의 ID
+     * @param countQuery 전체 개수 조회, 필요한 경우에만 실행됩니다
+     */
+    public static <T, ID> Page<T> page(
+            Pageable pageable,
+            Function<Pageable, List<ID>> idQuery,
+            Function<List<ID>, List<T>> hydrator,
+            Function<T, ID> idMapper,
+            LongSupplier countQuery
+    ) {
+        List<ID> ids = idQuery.apply(pageable);
+        return PageableExecutionUtils.getPage(hydrate(ids, hydrator, idMapper), pageable, countQuery);
+    }
+
+    /**
+     * ID 목록을 조회해 ID 순서대로 정렬된 엔티티 목록을 반환합니다.
+     * 커서 기반 조회처럼 count 가 필요 없는 경우에도 사용할 수 있습니다.
+     */
+    public static <T, ID> List<T> hydrate(List<ID> ids, Function<List<ID>, List<T>> hydrator, Function<T, ID> idMapper) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<ID, T> byId = new HashMap<>();
+        for (T entity : hydrator.apply(ids)) {
+            byId.put(idMapper.apply(entity), entity);
+        }
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (ID id : ids) {
+            T entity = byId.get(id);
+            // 두 쿼리 사이에 삭제된 행은 건너뜁니다.
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+}
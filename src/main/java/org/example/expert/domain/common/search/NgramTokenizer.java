@@ -0,0 +1,42 @@
+package org.example.expert.domain.common.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 부분 일치 검색용 bi-gram 토크나이저입니다.
+ * <p>
+ * 문자열을 소문자로 정규화한 뒤 연속된 두 글자(code point) 단위로 잘라 중복 없이 반환합니다.
+ * 저장 시 원문의 토큰을, 검색 시 검색어의 토큰을 만들어 "검색어의 모든 토큰을 가진 행"을 인덱스로 찾을 수 있습니다.
+ * 검색어가 한 글자라면 토큰이 만들어지지 않으므로 호출하는 쪽에서 별도 처리가 필요합니다.
+ * </p>
+ */
+public final class NgramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    /**
+     * 토큰 컬럼 길이입니다. code point 하나는 UTF-16 으로 최대 2 char, UTF-8 로 최대 4 byte 이므로
+     * 컬럼 길이를 char 로 세든 byte 로 세든 GRAM_SIZE 개의 code point 가 들어가도록 잡습니다.
+     */
+    public static final int TOKEN_COLUMN_LENGTH = GRAM_SIZE * 4;
+
+    private NgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return new ArrayList<>(tokens);
+    }
+}
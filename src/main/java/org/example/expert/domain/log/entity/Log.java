@@ -1,6 +1,7 @@
 package org.example.expert.domain.log.entity;
 
 import jakarta.persistence.*;
+import org.example.expert.domain.common.id.Tsid;
 
 import java.time.LocalDateTime;
 
@@ -8,7 +9,7 @@ import java.time.LocalDateTime;
 @Table(name = "log")
 public class Log {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     private String message;
@@ -0,0 +1,115 @@
+package org.example.expert.domain.log.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.log.entity.Log;
+import org.example.expert.domain.log.repository.LogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 감사 로그를 요청 트랜잭션과 분리해 비동기로 저장합니다.
+ * <p>
+ * 요청 스레드는 로그를 제한된 크기의 큐에 넣기만 하고, 단일 writer 가 주기적으로 큐를 비우며 batch-size 단위로 한 트랜잭션에 insert 합니다.
+ * 큐가 가득 차면 offer-timeout 만큼 기다린 뒤에도 자리가 없으면 로그를 버리고 카운터로 집계합니다.
+ * 애플리케이션 종료 시에는 남은 로그를 모두 저장합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private final LogRepository logRepository;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final BlockingQueue<Log> pendingLogs;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final AtomicLong droppedSinceFlush = new AtomicLong();
+    private volatile boolean closed;
+
+    public AuditLogWriter(
+            LogRepository logRepository,
+            MeterRegistry meterRegistry,
+            @Value("${audit-log.batch-size:500}") int batchSize,
+            @Value("${audit-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit-log.offer-timeout:0ms}") Duration offerTimeout
+    ) {
+        this.logRepository = logRepository;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.pendingLogs = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("audit.log.queue.size", pendingLogs, BlockingQueue::size)
+                .description("저장 대기 중인 감사 로그 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.log.written")
+                .description("저장된 감사 로그 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.log.dropped")
+                .description("큐가 가득 차거나 저장에 실패해 버려진 감사 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 감사 로그를 저장 대기열에 넣습니다. 호출한 스레드의 트랜잭션이나 커넥션을 사용하지 않습니다.
+     */
+    public void append(Log auditLog) {
+        // 종료 후 들어온 로그는 저장할 writer 가 없으므로 버립니다.
+        if (closed || !offer(auditLog)) {
+            droppedCounter.increment();
+            droppedSinceFlush.incrementAndGet();
+        }
+    }
+
+    private boolean offer(Log auditLog) {
+        if (offerTimeout.isZero()) {
+            return pendingLogs.offer(auditLog);
+        }
+        try {
+            return pendingLogs.offer(auditLog, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audit-log.flush-interval-ms:1000}", scheduler = SchedulingConfig.AUDIT_LOG_SCHEDULER)
+    public synchronized void flush() {
+        long dropped = droppedSinceFlush.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("감사 로그 큐가 가득 차 {}건을 버렸습니다.", dropped);
+        }
+
+        List<Log> batch = new ArrayList<>(batchSize);
+        while (pendingLogs.drainTo(batch, batchSize) > 0) {
+            try {
+                logRepository.saveAll(batch);
+                writtenCounter.increment(batch.size());
+            } catch (RuntimeException e) {
+                droppedCounter.increment(batch.size());
+                log.warn("감사 로그 저장 실패, {}건을 버립니다.", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        flush();
+    }
+}
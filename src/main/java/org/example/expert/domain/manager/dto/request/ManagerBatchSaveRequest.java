@@ -0,0 +1,24 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBatchSaveRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> todoIds; // 담당자를 배치할 일정 id 목록
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> managerUserIds; // 모든 일정에 배치할 유저 id 목록
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.manager.dto.response;
+
+/**
+ * 일정과 담당자 유저의 배치 관계를 나타냅니다.
+ */
+public record ManagerAssignment(Long todoId, Long userId) {
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ManagerBatchSaveResponse {
+
+    private final int createdCount;
+    private final int skippedCount; // 이미 담당자로 등록되어 있어 건너뛴 수
+
+    public ManagerBatchSaveResponse(int createdCount, int skippedCount) {
+        this.createdCount = createdCount;
+        this.skippedCount = skippedCount;
+    }
+}
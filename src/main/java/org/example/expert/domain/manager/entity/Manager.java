@@ -3,16 +3,21 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.id.Tsid;
+import org.example.expert.domain.common.search.NgramTokenizer;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Entity
 @NoArgsConstructor
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,9 +29,20 @@ public class Manager {
 
     private String managerNickname;
 
+    // 담당자 닉네임 부분 일치 검색용 bi-gram 토큰, 담당자와 함께 저장됩니다. 기존 담당자는 db/ngram-token-backfill.sql 로 채웁니다.
+    @ElementCollection
+    @CollectionTable(
+            name = "manager_nickname_tokens",
+            joinColumns = @JoinColumn(name = "manager_id"),
+            indexes = @Index(name = "idx_manager_nickname_tokens_token", columnList = "token, manager_id")
+    )
+    @Column(name = "token", length = NgramTokenizer.TOKEN_COLUMN_LENGTH, nullable = false)
+    private List<String> nicknameTokens = new ArrayList<>();
+
     public Manager(User user, Todo todo) {
         this.user = user;
         this.todo = todo;
         this.managerNickname = user.getNickname();
+        this.nicknameTokens.addAll(NgramTokenizer.tokenize(managerNickname));
     }
 }
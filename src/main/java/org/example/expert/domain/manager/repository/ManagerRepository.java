@@ -1,13 +1,18 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerAssignment;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerAssignment(m.todo.id, m.user.id) FROM Manager m WHERE m.todo.id IN :todoIds AND m.user.id IN :userIds")
+    List<ManagerAssignment> findAssignments(@Param("todoIds") Collection<Long> todoIds, @Param("userIds") Collection<Long> userIds);
 }
@@ -2,24 +2,40 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.aop.Loggable;
+import org.example.expert.config.CacheConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerAssignment;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,20 +45,23 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoOwnerCache todoOwnerCache;
+    private final CacheManager cacheManager;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_DETAIL, key = "#todoId")
     @Loggable(successMessage = "매니저 추가 성공", failureMessage = "매니저 추가 실패")
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
 
         // 일정을 만든 유저를 가져옵니다. AuthUser로부터 User 객체를 생성합니다.
         User user = User.fromAuthUser(authUser);
 
-        // Todo ID를 통해 해당 Todo 객체를 조회하고, 없으면 예외를 발생시킵니다.
-        Todo todo = todoRepository.findById(todoId)
+        // Todo ID를 통해 해당 Todo의 작성자 ID를 조회하고, 없으면 예외를 발생시킵니다.
+        Long ownerId = todoOwnerCache.findOwnerId(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        // Todo의 사용자 정보가 없거나, 유저가 Todo의 작성자와 일치하지 않으면 예외를 발생시킵니다.
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        // 유저가 Todo의 작성자와 일치하지 않으면 예외를 발생시킵니다.
+        if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
         }
 
@@ -55,11 +74,13 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        // 새로 등록할 매니저 객체를 생성합니다.
+        // 새로 등록할 매니저 객체를 생성합니다. 일정은 외래 키로 쓸 참조만 가져옵니다.
+        Todo todo = todoRepository.getReferenceById(todoId);
         Manager newManagerUser = new Manager(managerUser, todo);
 
         // 매니저 정보를 저장하고 결과를 반환합니다.
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todo.getId(), 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -67,6 +88,71 @@ public class ManagerService {
         );
     }
 
+    /**
+     * 여러 유저를 여러 일정의 담당자로 한 번에 배치합니다.
+     * <p>
+     * 일정 소유권, 유저 존재 여부, 기존 배치 여부를 각각 {@code IN} 조회 한 번으로 확인하고,
+     * 이미 배치된 조합은 건너뛴 뒤 나머지를 배치 insert로 저장합니다. 로그는 요청 단위로 한 건만 남습니다.
+     * </p>
+     */
+    @Transactional
+    @Loggable(successMessage = "매니저 일괄 추가 성공", failureMessage = "매니저 일괄 추가 실패")
+    public ManagerBatchSaveResponse saveManagers(AuthUser authUser, ManagerBatchSaveRequest managerBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        Set<Long> todoIds = new LinkedHashSet<>(managerBatchSaveRequest.getTodoIds());
+        Set<Long> managerUserIds = new LinkedHashSet<>(managerBatchSaveRequest.getManagerUserIds());
+
+        if (managerUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        // 요청한 일정이 모두 존재하고, 모두 요청한 유저가 만든 일정이어야 합니다.
+        List<Long> ownedTodoIds = todoRepository.findIdsByIdInAndUserId(todoIds, user.getId());
+        if (ownedTodoIds.size() != todoIds.size()) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        }
+
+        List<User> managerUsers = userRepository.findAllById(managerUserIds);
+        if (managerUsers.size() != managerUserIds.size()) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        }
+
+        Set<ManagerAssignment> existing = new HashSet<>(managerRepository.findAssignments(todoIds, managerUserIds));
+
+        List<Manager> newManagers = new ArrayList<>();
+        Map<Long, Integer> addedCounts = new HashMap<>();
+        for (Long todoId : todoIds) {
+            Todo todo = todoRepository.getReferenceById(todoId);
+            for (User managerUser : managerUsers) {
+                if (existing.contains(new ManagerAssignment(todoId, managerUser.getId()))) {
+                    continue;
+                }
+                newManagers.add(new Manager(managerUser, todo));
+                addedCounts.merge(todoId, 1, Integer::sum);
+            }
+        }
+
+        managerRepository.saveAll(newManagers);
+        addedCounts.forEach((todoId, count) -> todoRepository.addManagerCount(todoId, count));
+        evictTodoDetailsAfterCommit(addedCounts.keySet());
+
+        return new ManagerBatchSaveResponse(newManagers.size(), existing.size());
+    }
+
+    private void evictTodoDetailsAfterCommit(Collection<Long> todoIds) {
+        Cache todoDetailCache = cacheManager.getCache(CacheConfig.TODO_DETAIL);
+        if (todoDetailCache == null || todoIds.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                todoIds.forEach(todoDetailCache::evict);
+            }
+        });
+    }
 
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
@@ -86,23 +172,25 @@ public class ManagerService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_DETAIL, key = "#todoId")
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
         User user = User.fromAuthUser(authUser);
 
-        Todo todo = todoRepository.findById(todoId)
+        Long ownerId = todoOwnerCache.findOwnerId(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
         Manager manager = managerRepository.findById(managerId)
                 .orElseThrow(() -> new InvalidRequestException("Manager not found"));
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+        if (!ObjectUtils.nullSafeEquals(todoId, manager.getTodo().getId())) {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todoId, -1);
     }
 }
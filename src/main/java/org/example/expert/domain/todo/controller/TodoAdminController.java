@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoCounterService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCounterService todoCounterService;
+
+    /**
+     * 모든 일정의 담당자 수/댓글 수 카운터를 재계산합니다.
+     *
+     * @return 재계산된 일정 수
+     */
+    @PostMapping("/admin/todos/counters/recount")
+    public ResponseEntity<Long> recountCounters() {
+        return ResponseEntity.ok(todoCounterService.recountAll());
+    }
+}
@@ -4,24 +4,39 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.export.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoETagService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.hibernate.Transaction;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
+    private final TodoETagService todoETagService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -31,6 +46,23 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    /**
+     * <p>
+     * 여러 할 일을 한 번의 요청으로 생성합니다. 최대 500개까지 생성할 수 있으며, 모두 저장되거나 모두 저장되지 않습니다.
+     * </p>
+     *
+     * @param authUser 인증된 사용자
+     * @param todoBatchSaveRequest 생성할 할 일 목록
+     * @return 생성된 할 일 목록 {@link List<TodoSaveResponse>}
+     */
+    @PostMapping("/todos/batch")
+    public ResponseEntity<List<TodoSaveResponse>> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -42,6 +74,53 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size, weather, start, end));
     }
 
+    /**
+     * <p>
+     * 할 일 목록을 담당자 정보와 댓글 수를 포함해 수정일 최신순으로 조회합니다.
+     * </p>
+     *
+     * @param page 페이지 번호
+     * @param size 한 페이지에 조회할 할 일 목록의 수
+     * @param start 시작 날짜
+     * @param end 종료 날짜
+     * @param weather 날씨
+     * @return 담당자와 댓글 수가 포함된 할 일 목록 {@link Page<TodoDetailResponse>}
+     */
+    @GetMapping("/todos/details")
+    public ResponseEntity<Page<TodoDetailResponse>> getTodoDetails(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) LocalDateTime start,
+            @RequestParam(required = false) LocalDateTime end,
+            @RequestParam(required = false) String weather
+    ) {
+        return ResponseEntity.ok(todoService.getTodoDetails(page, size, weather, start, end));
+    }
+
+    /**
+     * <p>
+     * 할 일 목록을 수정일 최신순으로 커서 기반 조회합니다.
+     * 응답의 {@code nextCursor}를 다음 요청의 {@code cursor}로 전달하면 이어서 조회할 수 있습니다.
+     * </p>
+     *
+     * @param cursor 이전 응답에서 받은 커서 (첫 페이지는 생략)
+     * @param size 한 번에 조회할 할 일 목록의 수 (1 ~ 100)
+     * @param start 시작 날짜
+     * @param end 종료 날짜
+     * @param weather 날씨
+     * @return 할 일 목록과 다음 커서 {@link CursorResponse<TodoResponse>}
+     */
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) LocalDateTime start,
+            @RequestParam(required = false) LocalDateTime end,
+            @RequestParam(required = false) String weather
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, start, end));
+    }
+
     /**
      * <p>
      * 특정 조건에 맞는 할 일 목록을 검색합니다.
@@ -67,8 +146,78 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodosSearch(page, size, title, start, end, managerName));
     }
 
+    /**
+     * <p>
+     * 특정 조건에 맞는 할 일 목록을 전체 개수 없이 검색합니다.
+     * 무한 스크롤처럼 다음 페이지 존재 여부만 필요한 경우 count 쿼리를 생략할 수 있습니다.
+     * </p>
+     *
+     * @param page 검색할 페이지 번호
+     * @param size 한 페이지에 포함될 할 일 목록의 수
+     * @param title 할 일 제목
+     * @param start 시작 날짜
+     * @param end 종료 날짜
+     * @param managerName 담당자 이름
+     * @return 조건에 맞는 할 일 목록과 다음 페이지 존재 여부 {@link Slice<TodoSearchResponse>}
+     */
+    @GetMapping("/todos/search/slice")
+    public ResponseEntity<Slice<TodoSearchResponse>> getTodosSearchSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) LocalDateTime start,
+            @RequestParam(required = false) LocalDateTime end,
+            @RequestParam(required = false) String managerName
+    ) {
+        return ResponseEntity.ok(todoService.getTodosSearchSlice(page, size, title, start, end, managerName));
+    }
+
+    /**
+     * <p>
+     * 조건에 맞는 할 일 목록을 NDJSON 또는 CSV로 내보냅니다.
+     * 결과를 모아 두지 않고 DB에서 읽는 대로 응답에 바로 쓰므로, 대량의 데이터도 한 번의 요청으로 받을 수 있습니다.
+     * </p>
+     *
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @param weather 날씨
+     * @param title 할 일 제목
+     * @param managerName 담당자 이름
+     * @param start 수정일 시작 날짜
+     * @param end 수정일 종료 날짜
+     * @return 스트리밍 응답 본문
+     */
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String managerName,
+            @RequestParam(required = false) LocalDateTime start,
+            @RequestParam(required = false) LocalDateTime end
+    ) {
+        TodoExportFormat exportFormat = TodoExportFormat.of(format);
+
+        StreamingResponseBody body = outputStream ->
+                todoExportService.exportTodos(exportFormat, weather, title, managerName, start, end, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * <p>
+     * 할 일을 단건 조회합니다.
+     * {@code If-None-Match}의 ETag 가 현재 버전과 같으면 본문 없이 304 로 응답합니다.
+     * </p>
+     */
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        Optional<String> eTag = todoETagService.findETag(todoId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag.orElse(null)).body(todoService.getTodo(todoId));
     }
 }
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.dto.request;
+
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 일정 검색 조건입니다.
+ * <p>
+ * 결과에 영향을 주지 않는 차이(대소문자, 빈 문자열, 한쪽만 주어진 기간)를 정규화해 두므로,
+ * 같은 결과를 내는 조건은 항상 같은 값이 되어 캐시 키로 사용할 수 있습니다.
+ * </p>
+ */
+public record TodoSearchCondition(String title, String managerNickname, LocalDateTime start, LocalDateTime end) {
+
+    public static TodoSearchCondition of(String title, String managerNickname, LocalDateTime start, LocalDateTime end) {
+        // 기간 조건은 시작과 끝이 모두 있을 때만 적용됩니다.
+        boolean hasPeriod = start != null && end != null;
+        return new TodoSearchCondition(
+                normalize(title),
+                normalize(managerNickname),
+                hasPeriod ? start : null,
+                hasPeriod ? end : null
+        );
+    }
+
+    private static String normalize(String keyword) {
+        // 제목과 닉네임은 대소문자를 구분하지 않고 검색합니다.
+        return StringUtils.hasText(keyword) ? keyword.toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 ID와 생성일만 담은 프로젝션입니다. 날씨를 채울 날짜를 정할 때 엔티티 전체를 읽지 않기 위해 사용합니다.
+ */
+public record TodoCreatedAt(Long id, LocalDateTime createdAt) {
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 내보내기 한 행입니다.
+ * 엔티티 대신 필요한 컬럼만 프로젝션하므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+ */
+public record TodoExportRow(
+        Long id,
+        String title,
+        String contents,
+        String weather,
+        Long userId,
+        String userEmail,
+        Long managerCount,
+        Long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+}
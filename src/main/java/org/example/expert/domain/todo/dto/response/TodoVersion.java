@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 일정과 하위 컬렉션(댓글, 담당자)의 버전입니다. 조건부 조회의 ETag 를 만들 때 사용합니다.
+ */
+public record TodoVersion(LocalDateTime modifiedAt, long childVersion) {
+
+    public String toETag() {
+        return Long.toHexString(modifiedAt.toEpochSecond(ZoneOffset.UTC))
+                + "." + Integer.toHexString(modifiedAt.getNano())
+                + "-" + childVersion;
+    }
+}
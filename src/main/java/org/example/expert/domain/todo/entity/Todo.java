@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.Tsid;
+import org.example.expert.domain.common.search.NgramTokenizer;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
 
@@ -14,15 +16,33 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 목록 조회 정렬 키이자 커서 기반 목록 조회의 seek key (modifiedAt, id)
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"),
+        // 날씨 조건 목록 조회: 동등 조건 뒤에 정렬 키를 두어 정렬을 인덱스 순서로 처리합니다.
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at DESC, id DESC"),
+        // 검색의 생성일 기간 조건과 정렬
+        @Index(name = "idx_todos_created_at", columnList = "created_at DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @Tsid
     private Long id;
     private String title;
     private String contents;
+    // null 이면 날씨를 채우기 전(대기 상태)입니다. TodoWeatherEnricher 참고
     private String weather;
 
+    // 검색 시 managers/comments 조인 없이 개수를 반환하기 위한 비정규화 카운터
+    @Column(nullable = false)
+    private long managerCount;
+    @Column(nullable = false)
+    private long commentCount;
+
+    // 댓글/담당자가 추가되거나 삭제될 때마다 증가하는 버전, 조건부 조회(ETag)에 사용합니다.
+    @Column(nullable = false)
+    private long childVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -33,11 +53,23 @@ public class Todo extends Timestamped {
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
+    // 제목 부분 일치 검색용 bi-gram 토큰, 일정과 함께 저장됩니다. 기존 일정은 db/ngram-token-backfill.sql 로 채웁니다.
+    @ElementCollection
+    @CollectionTable(
+            name = "todo_title_tokens",
+            joinColumns = @JoinColumn(name = "todo_id"),
+            indexes = @Index(name = "idx_todo_title_tokens_token", columnList = "token, todo_id")
+    )
+    @Column(name = "token", length = NgramTokenizer.TOKEN_COLUMN_LENGTH, nullable = false)
+    private List<String> titleTokens = new ArrayList<>();
+
     public Todo(String title, String contents, String weather, User user) {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.titleTokens.addAll(NgramTokenizer.tokenize(title));
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 내보내기 행을 지정한 형식으로 한 줄씩 출력합니다.
+ * 행을 모아두지 않고 바로 출력하므로 메모리 사용량은 행 수와 무관합니다.
+ */
+public abstract class TodoExportWriter {
+
+    protected final Writer writer;
+
+    protected TodoExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static TodoExportWriter of(TodoExportFormat format, Writer writer, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(writer, objectMapper);
+            case CSV -> new CsvWriter(writer);
+        };
+    }
+
+    public void writeHeader() throws IOException {
+    }
+
+    public abstract void writeRow(TodoExportRow row) throws IOException;
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static class NdjsonWriter extends TodoExportWriter {
+
+        private final ObjectMapper objectMapper;
+
+        private NdjsonWriter(Writer writer, ObjectMapper objectMapper) {
+            super(writer);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void writeRow(TodoExportRow row) throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+
+    private static class CsvWriter extends TodoExportWriter {
+
+        private CsvWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write("id,title,contents,weather,userId,userEmail,managerCount,commentCount,createdAt,modifiedAt\n");
+        }
+
+        @Override
+        public void writeRow(TodoExportRow row) throws IOException {
+            writeField(row.id());
+            writer.write(',');
+            writeField(row.title());
+            writer.write(',');
+            writeField(row.contents());
+            writer.write(',');
+            writeField(row.weather());
+            writer.write(',');
+            writeField(row.userId());
+            writer.write(',');
+            writeField(row.userEmail());
+            writer.write(',');
+            writeField(row.managerCount());
+            writer.write(',');
+            writeField(row.commentCount());
+            writer.write(',');
+            writeField(row.createdAt());
+            writer.write(',');
+            writeField(row.modifiedAt());
+            writer.write('\n');
+        }
+
+        private void writeField(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+
+            String text = value instanceof String string ? escapeFormula(string) : value.toString();
+            // RFC 4180: 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        /**
+         * 스프레드시트가 수식으로 해석하는 문자(=, +, -, @, 탭, CR)로 시작하는 문자열 앞에 ' 를 붙여 텍스트로 열리게 합니다.
+         * 사용자가 입력한 제목/내용이 내보낸 파일을 여는 쪽에서 수식으로 실행되는 것(CSV injection)을 막습니다.
+         */
+        private static String escapeFormula(String text) {
+            if (text.isEmpty() || "=+-@\t\r".indexOf(text.charAt(0)) < 0) {
+                return text;
+            }
+            return "'" + text;
+        }
+    }
+}
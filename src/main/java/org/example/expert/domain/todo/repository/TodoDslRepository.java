@@ -1,5 +1,8 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.cursor.SeekCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
@@ -7,10 +10,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoDslRepository {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
-    Page<TodoSearchResponse> fetchScheduleTitlesWithCounts(String title, String managerNickname, LocalDateTime start, LocalDateTime end, Pageable pageable);
+    List<TodoSearchResponse> fetchScheduleTitlesWithCounts(TodoSearchCondition condition, long offset, int limit);
+
+    long countScheduleTitles(TodoSearchCondition condition);
+
+    Page<Todo> findTodos(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    Page<Todo> findTodoDetails(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    List<Todo> findTodosAfterCursor(String weather, LocalDateTime start, LocalDateTime end, SeekCursor cursor, int limit);
+
+    Stream<TodoExportRow> streamTodosForExport(String weather, String title, String managerNickname, LocalDateTime start, LocalDateTime end, int fetchSize);
 }
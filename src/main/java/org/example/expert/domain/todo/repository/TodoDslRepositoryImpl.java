@@ -2,17 +2,24 @@ package org.example.expert.domain.todo.repository;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.QComment;
+import org.example.expert.domain.common.cursor.SeekCursor;
+import org.example.expert.domain.common.paging.TwoPhasePager;
+import org.example.expert.domain.common.search.NgramTokenizer;
 import org.example.expert.domain.manager.entity.QManager;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.QTodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.QUser;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -20,7 +27,9 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.example.expert.domain.manager.entity.QManager.manager;
 import static org.example.expert.domain.todo.entity.QTodo.todo;
 import static org.example.expert.domain.user.entity.QUser.user;
 
@@ -40,60 +49,245 @@ public class TodoDslRepositoryImpl implements  TodoDslRepository {
     }
 
     @Override
-    public Page<TodoSearchResponse> fetchScheduleTitlesWithCounts(String title, String managerNickname, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+    public List<TodoSearchResponse> fetchScheduleTitlesWithCounts(TodoSearchCondition condition, long offset, int limit) {
         QTodo todo = QTodo.todo;
-        QManager manager = QManager.manager;
-        QComment comment = QComment.comment;
 
-        // 메인 쿼리
-        List<TodoSearchResponse> results = jpaQueryFactory
+        // 담당자 수와 댓글 수는 Todo에 저장된 카운터를 사용하므로 managers/comments 조인이 필요 없습니다.
+        return jpaQueryFactory
                 .select(
                         Projections.constructor(
                                 TodoSearchResponse.class,
                                 todo.title,
-                                manager.id.countDistinct(),
-                                comment.id.countDistinct()
+                                todo.managerCount,
+                                todo.commentCount
                         )
                 )
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(todo.comments, comment)
+                .where(searchConditions(condition))
+                .orderBy(todo.createdAt.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countScheduleTitles(TodoSearchCondition condition) {
+        Long total = jpaQueryFactory
+                .select(todo.count())
+                .from(todo)
+                .where(searchConditions(condition))
+                .fetchOne();
+
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * 날씨와 수정일 기간 조건이 선택적으로 적용되는 할 일 목록을 수정일 최신순으로 조회합니다.
+     * 조건 조합마다 (weather, modified_at, id) 또는 (modified_at, id) 인덱스를 타도록 정렬 키를 인덱스 순서와 맞추고,
+     * 인덱스만으로 한 페이지의 ID를 먼저 구한 뒤 해당 행만 작성자와 함께 조회합니다.
+     */
+    @Override
+    public Page<Todo> findTodos(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        return TwoPhasePager.page(
+                pageable,
+                page -> findTodoIds(weather, start, end, page),
+                ids -> jpaQueryFactory.selectFrom(todo)
+                        .leftJoin(todo.user, user).fetchJoin()
+                        .where(todo.id.in(ids))
+                        .fetch(),
+                Todo::getId,
+                () -> countTodos(weather, start, end)
+        );
+    }
+
+    /**
+     * {@link #findTodos}와 같은 조건과 순서로, 담당자와 담당자 유저까지 함께 조회합니다.
+     * 컬렉션 fetch join 에 offset/limit 을 걸면 메모리 페이지네이션이 되므로 ID 페이지를 먼저 구한 뒤 채웁니다.
+     */
+    @Override
+    public Page<Todo> findTodoDetails(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        QUser managerUser = new QUser("managerUser");
+
+        return TwoPhasePager.page(
+                pageable,
+                page -> findTodoIds(weather, start, end, page),
+                ids -> jpaQueryFactory.selectFrom(todo)
+                        .leftJoin(todo.user, user).fetchJoin()
+                        .leftJoin(todo.managers, manager).fetchJoin()
+                        .leftJoin(manager.user, managerUser).fetchJoin()
+                        .where(todo.id.in(ids))
+                        .fetch(),
+                Todo::getId,
+                () -> countTodos(weather, start, end)
+        );
+    }
+
+    private List<Long> findTodoIds(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        return jpaQueryFactory
+                .select(todo.id)
+                .from(todo)
                 .where(
-                        titleContains(title),
-                        createdAtBetween(start, end),
-                        managerNicknameContains(managerNickname)
+                        weatherEq(weather),
+                        modifiedAtBetween(start, end)
                 )
-                .groupBy(todo.id)
-                .orderBy(todo.createdAt.desc())
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
 
-        // totalCount 계산
+    private long countTodos(String weather, LocalDateTime start, LocalDateTime end) {
         Long total = jpaQueryFactory
-                .select(todo.countDistinct())
+                .select(todo.count())
                 .from(todo)
-                .leftJoin(todo.managers)
                 .where(
-                        titleContains(title),
-                        createdAtBetween(start, end),
-                        managerNicknameContains(managerNickname)
+                        weatherEq(weather),
+                        modifiedAtBetween(start, end)
                 )
                 .fetchOne();
+        return total == null ? 0 : total;
+    }
 
-        return new PageImpl<>(results, pageable, total == null ? 0 : total);
+    /**
+     * 커서 이후의 할 일 목록을 (modifiedAt, id) 내림차순으로 조회합니다.
+     * OFFSET 없이 seek 조건으로 시작 위치를 찾기 때문에 페이지 깊이와 무관하게 일정한 비용이 들고, count 쿼리도 실행하지 않습니다.
+     */
+    @Override
+    public List<Todo> findTodosAfterCursor(String weather, LocalDateTime start, LocalDateTime end, SeekCursor cursor, int limit) {
+        return jpaQueryFactory.selectFrom(todo)
+                .leftJoin(todo.user, user).fetchJoin()
+                .where(
+                        weatherEq(weather),
+                        modifiedAtBetween(start, end),
+                        afterCursor(cursor)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
+    /**
+     * 내보내기용 일정 행을 스트림으로 조회합니다.
+     * 결과 전체를 메모리에 올리지 않고 forward-only 커서로 fetchSize 만큼씩 읽어오며,
+     * 호출하는 쪽은 트랜잭션 안에서 스트림을 소비한 뒤 닫아야 합니다.
+     */
+    @Override
+    public Stream<TodoExportRow> streamTodosForExport(String weather, String title, String managerNickname, LocalDateTime start, LocalDateTime end, int fetchSize) {
+        return jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                TodoExportRow.class,
+                                todo.id,
+                                todo.title,
+                                todo.contents,
+                                todo.weather,
+                                user.id,
+                                user.email,
+                                todo.managerCount,
+                                todo.commentCount,
+                                todo.createdAt,
+                                todo.modifiedAt
+                        )
+                )
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        weatherEq(weather),
+                        modifiedAtBetween(start, end),
+                        titleContains(title),
+                        managerNicknameContains(managerNickname)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private BooleanExpression[] searchConditions(TodoSearchCondition condition) {
+        return new BooleanExpression[]{
+                titleContains(condition.title()),
+                createdAtBetween(condition.start(), condition.end()),
+                managerNicknameContains(condition.managerNickname())
+        };
+    }
 
+    /**
+     * 제목 부분 일치 조건입니다.
+     * 검색어의 bi-gram 토큰을 모두 가진 일정을 토큰 인덱스로 먼저 좁힌 뒤, 후보에 대해서만 원래의 부분 일치 조건을 확인합니다.
+     * 토큰을 만들 수 없는 한 글자 검색어는 기존과 같이 부분 일치 조건만 사용합니다.
+     */
     private BooleanExpression titleContains(String title) {
-        return StringUtils.hasText(title) ? QTodo.todo.title.containsIgnoreCase(title) : null;
+        if (!StringUtils.hasText(title)) {
+            return null;
+        }
+
+        BooleanExpression contains = todo.title.containsIgnoreCase(title);
+        List<String> tokens = NgramTokenizer.tokenize(title);
+        if (tokens.isEmpty()) {
+            return contains;
+        }
+
+        QTodo tokenTodo = new QTodo("tokenTodo");
+        StringPath token = Expressions.stringPath("titleToken");
+        return todo.id.in(
+                JPAExpressions.select(tokenTodo.id)
+                        .from(tokenTodo)
+                        .join(tokenTodo.titleTokens, token)
+                        .where(token.in(tokens))
+                        .groupBy(tokenTodo.id)
+                        .having(token.countDistinct().eq((long) tokens.size()))
+        ).and(contains);
     }
 
     private BooleanExpression createdAtBetween(LocalDateTime start, LocalDateTime end) {
         return (start != null && end != null) ? QTodo.todo.createdAt.between(start, end) : null;
     }
 
+    /**
+     * 담당자 닉네임 부분 일치 조건입니다.
+     * 행마다 EXISTS 를 평가하지 않도록, 닉네임 토큰 인덱스로 조건에 맞는 담당자의 일정 ID를 먼저 구한 뒤 IN 조건으로 붙입니다.
+     * 부분 일치 확인은 토큰으로 좁힌 담당자에 대해서만 수행하며, 한 글자 검색어는 담당자 테이블에서 바로 확인합니다.
+     */
     private BooleanExpression managerNicknameContains(String nickname) {
-        return StringUtils.hasText(nickname) ? todo.managers.any().managerNickname.containsIgnoreCase(nickname) : null;
+        if (!StringUtils.hasText(nickname)) {
+            return null;
+        }
+
+        QManager tokenManager = new QManager("tokenManager");
+        BooleanExpression contains = tokenManager.managerNickname.containsIgnoreCase(nickname);
+        List<String> tokens = NgramTokenizer.tokenize(nickname);
+        if (tokens.isEmpty()) {
+            return todo.id.in(
+                    JPAExpressions.select(tokenManager.todo.id)
+                            .from(tokenManager)
+                            .where(contains)
+            );
+        }
+
+        StringPath token = Expressions.stringPath("nicknameToken");
+        return todo.id.in(
+                JPAExpressions.select(tokenManager.todo.id)
+                        .from(tokenManager)
+                        .join(tokenManager.nicknameTokens, token)
+                        .where(token.in(tokens), contains)
+                        .groupBy(tokenManager.id, tokenManager.todo.id)
+                        .having(token.countDistinct().eq((long) tokens.size()))
+        );
+    }
+
+    private BooleanExpression weatherEq(String weather) {
+        return weather != null ? todo.weather.eq(weather) : null;
+    }
+
+    private BooleanExpression modifiedAtBetween(LocalDateTime start, LocalDateTime end) {
+        return (start != null && end != null) ? todo.modifiedAt.gt(start).and(todo.modifiedAt.lt(end)) : null;
+    }
+
+    private BooleanExpression afterCursor(SeekCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return todo.modifiedAt.lt(cursor.timestamp())
+                .or(todo.modifiedAt.eq(cursor.timestamp()).and(todo.id.lt(cursor.id())));
     }
 }
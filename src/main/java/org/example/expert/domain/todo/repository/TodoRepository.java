@@ -1,27 +1,66 @@
 package org.example.expert.domain.todo.repository;
 
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.example.expert.domain.todo.dto.response.TodoCreatedAt;
+import org.example.expert.domain.todo.dto.response.TodoVersion;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoDslRepository{
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + 1, t.childVersion = t.childVersion + 1 WHERE t.id = :todoId")
+    int increaseCommentCount(@Param("todoId") Long todoId);
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u WHERE t.weather = :weather ORDER BY t.modifiedAt DESC")
-    Page<Todo> findTodosByWeatherOrderedDesc(String weather, Pageable pageable);
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta, t.childVersion = t.childVersion + 1 WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u WHERE t.modifiedAt > :start AND t.modifiedAt < :end ORDER BY t.modifiedAt DESC")
-    Page<Todo> findTodosByModifiedDateBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u WHERE t.weather = :weather AND t.modifiedAt > :start AND t.modifiedAt < :end ORDER BY t.modifiedAt DESC")
-    Page<Todo> findTodosByWeatherAndDateRange(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable);
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :todoIds AND t.user.id = :userId")
+    List<Long> findIdsByIdInAndUserId(@Param("todoIds") Collection<Long> todoIds, @Param("userId") Long userId);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoVersion(t.modifiedAt, t.childVersion) FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoCreatedAt(t.id, t.createdAt) FROM Todo t WHERE t.id IN :todoIds AND t.weather IS NULL")
+    List<TodoCreatedAt> findWeatherPendingByIdIn(@Param("todoIds") List<Long> todoIds);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.weather IS NULL AND t.id > :lastId AND t.createdAt < :createdBefore ORDER BY t.id")
+    List<Long> findWeatherPendingIds(@Param("lastId") Long lastId, @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    /**
+     * 날씨가 비어 있는 일정들의 날씨를 채웁니다.
+     * 수정일을 바꾸면 수정일 순 목록과 커서에서 일정의 위치가 움직이므로, 조건부 조회(ETag)용으로 childVersion 만 올립니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather, t.childVersion = t.childVersion + 1 WHERE t.id IN :todoIds AND t.weather IS NULL")
+    int fillWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 지정한 일정들의 담당자 수와 댓글 수를 실제 행 개수로 다시 계산합니다.
+     * 청크 단위로 호출되며, 호출마다 독립된 트랜잭션으로 커밋되어 락 점유 시간을 짧게 유지합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id), " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "WHERE t.id IN :todoIds")
+    int recountCounters(@Param("todoIds") List<Long> todoIds);
 }
@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Todo에 저장된 담당자 수/댓글 수 카운터를 실제 데이터 기준으로 재계산합니다.
+ * <p>
+ * 카운터는 댓글/담당자 쓰기 시점에 원자적으로 갱신되지만, 직접 DB를 수정하는 등의 이유로 어긋날 수 있습니다.
+ * 전체 테이블을 한 번에 갱신하지 않고 id 순으로 청크를 나누어, 청크마다 별도 트랜잭션으로 커밋합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoCounterService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+
+    @CacheEvict(cacheNames = CacheConfig.TODO_DETAIL, allEntries = true)
+    public long recountAll() {
+        long recounted = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Long> todoIds = todoRepository.findIdsAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+
+            recounted += todoRepository.recountCounters(todoIds);
+            lastId = todoIds.get(todoIds.size() - 1);
+        }
+
+        log.info("Todo 카운터 재계산 완료 - 대상 일정 수={}", recounted);
+        return recounted;
+    }
+}
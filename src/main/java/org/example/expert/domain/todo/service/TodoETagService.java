@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoVersion;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 일정 단건, 댓글 목록, 담당자 목록 조회의 ETag 를 계산합니다.
+ * <p>
+ * 일정의 수정일과 하위 컬렉션 버전만 조회하므로, 변경이 없을 때는 엔티티와 연관 데이터를 읽지 않고 304 로 응답할 수 있습니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoETagService {
+
+    private final TodoRepository todoRepository;
+
+    public Optional<String> findETag(long todoId) {
+        return todoRepository.findVersionById(todoId).map(TodoVersion::toETag);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.export.TodoExportFormat;
+import org.example.expert.domain.todo.export.TodoExportWriter;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 조건에 맞는 일정을 스트리밍 방식으로 내보냅니다.
+ * <p>
+ * DB 커서에서 읽은 행을 곧바로 응답 스트림에 쓰고, 일정 행 수마다 출력을 flush 하고 영속성 컨텍스트를 비웁니다.
+ * 따라서 내보내는 행이 수백만 건이어도 메모리 사용량은 일정하게 유지됩니다.
+ * </p>
+ * <p>
+ * 한 번의 내보내기는 트랜잭션과 DB 커넥션을 끝날 때까지 붙잡고 있으므로,
+ * {@code todo.export.max-rows} 행 또는 {@code todo.export.max-duration} 을 넘기면 거기서 멈춥니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushInterval;
+    private final long maxRows;
+    private final Duration maxDuration;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.flush-interval:1000}") int flushInterval,
+            @Value("${todo.export.max-rows:100000}") long maxRows,
+            @Value("${todo.export.max-duration:5m}") Duration maxDuration
+    ) {
+        this.todoRepository = todoRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+        this.maxRows = maxRows;
+        this.maxDuration = maxDuration;
+    }
+
+    public void exportTodos(TodoExportFormat format, String weather, String title, String managerName,
+                            LocalDateTime start, LocalDateTime end, OutputStream outputStream) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        TodoExportWriter exportWriter = TodoExportWriter.of(format, writer, objectMapper);
+        exportWriter.writeHeader();
+
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        try (Stream<TodoExportRow> rows = todoRepository.streamTodosForExport(weather, title, managerName, start, end, fetchSize)) {
+            long count = 0;
+            Iterator<TodoExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                if (count >= maxRows || System.nanoTime() - deadline >= 0) {
+                    log.warn("일정 내보내기를 {}건에서 중단합니다. (최대 {}건, 최대 {})", count, maxRows, maxDuration);
+                    break;
+                }
+
+                exportWriter.writeRow(iterator.next());
+
+                if (++count % flushInterval == 0) {
+                    exportWriter.flush();
+                    entityManager.clear();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        exportWriter.flush();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 일정 ID별 작성자 ID를 캐싱합니다.
+ * <p>
+ * 댓글/담당자 쓰기에서 일정의 존재 여부와 작성자만 확인하면 되므로, 일정 엔티티 대신 작성자 ID 한 컬럼만 조회하고 그 결과를 재사용합니다.
+ * 일정의 작성자는 바뀌지 않으므로 무효화 없이 크기와 만료 시간으로만 관리하며, 존재하지 않는 일정은 캐싱하지 않습니다.
+ * </p>
+ */
+@Component
+public class TodoOwnerCache {
+
+    private final TodoRepository todoRepository;
+    private final boolean enabled;
+    private final Cache<Long, Long> cache;
+
+    public TodoOwnerCache(
+            TodoRepository todoRepository,
+            @Value("${todo.owner-cache.enabled:true}") boolean enabled,
+            @Value("${todo.owner-cache.ttl:10m}") Duration ttl,
+            @Value("${todo.owner-cache.maximum-size:100000}") long maximumSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public Optional<Long> findOwnerId(long todoId) {
+        if (!enabled) {
+            return todoRepository.findOwnerIdById(todoId);
+        }
+        return Optional.ofNullable(cache.get(todoId, id -> todoRepository.findOwnerIdById(id).orElse(null)));
+    }
+}
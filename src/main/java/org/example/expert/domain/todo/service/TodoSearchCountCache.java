@@ -0,0 +1,43 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+/**
+ * 일정 검색 결과의 전체 개수를 검색 조건별로 짧은 시간 동안 캐싱합니다.
+ * <p>
+ * 전체 개수는 페이지를 넘길 때마다 바뀌지 않으므로, TTL 동안은 같은 조건의 count 쿼리를 다시 실행하지 않습니다.
+ * 그 대신 TTL 이내에 추가/삭제된 일정은 전체 개수에 바로 반영되지 않을 수 있습니다.
+ * </p>
+ */
+@Component
+public class TodoSearchCountCache {
+
+    private final boolean enabled;
+    private final Cache<TodoSearchCondition, Long> cache;
+
+    public TodoSearchCountCache(
+            @Value("${todo.search.count-cache.enabled:true}") boolean enabled,
+            @Value("${todo.search.count-cache.ttl:30s}") Duration ttl,
+            @Value("${todo.search.count-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public long get(TodoSearchCondition condition, ToLongFunction<TodoSearchCondition> counter) {
+        if (!enabled) {
+            return counter.applyAsLong(condition);
+        }
+        return cache.get(condition, counter::applyAsLong);
+    }
+}
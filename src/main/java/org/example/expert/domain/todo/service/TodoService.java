@@ -1,10 +1,16 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.common.cursor.SeekCursor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
@@ -12,27 +18,36 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoSearchCountCache todoSearchCountCache;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 비동기 모드에서는 날씨 없이 저장하고, 커밋 후 백그라운드에서 채웁니다.
+        String weather = todoWeatherEnricher.weatherForNewTodo();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -41,6 +56,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoWeatherEnricher.enrichAfterCommit(List.of(savedTodo.getId()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,36 +67,81 @@ public class TodoService {
         );
     }
 
+    /**
+     * 여러 일정을 한 번에 저장합니다.
+     * 날씨는 요청마다 한 번만 정하고, 일정/담당자/제목 토큰 INSERT 는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 실행됩니다.
+     */
+    @Transactional
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = todoWeatherEnricher.weatherForNewTodo();
+
+        List<Todo> newTodos = todoBatchSaveRequest.getTodos().stream()
+                .map(request -> new Todo(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+        todoWeatherEnricher.enrichAfterCommit(savedTodos.stream().map(Todo::getId).toList());
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        return savedTodos.stream()
+                .map(todo -> new TodoSaveResponse(todo.getId(), todo.getTitle(), todo.getContents(), weather, userResponse))
+                .toList();
+    }
+
     public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDateTime start, LocalDateTime end) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos;
+        return getTodoResponses(todoRepository.findTodos(weather, start, end, pageable));
+    }
 
-        // weather, start, end 조건이 다 있는 경우
-        if (weather != null && start != null && end != null) {
-            todos = todoRepository.findTodosByWeatherAndDateRange(weather, start, end, pageable);
-            return getTodoResponses(todos);
-        }
+    private static Page<TodoResponse> getTodoResponses(Page<Todo> todos) {
+        return todos.map(TodoService::toTodoResponse);
+    }
 
-        // weather 조건만 있는 경우
-        if (weather != null) {
-            todos = todoRepository.findTodosByWeatherOrderedDesc(weather, pageable);
-            return getTodoResponses(todos);
+    public Page<TodoDetailResponse> getTodoDetails(int page, int size, String weather, LocalDateTime start, LocalDateTime end) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        return todoRepository.findTodoDetails(weather, start, end, pageable).map(todo -> new TodoDetailResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getManagers().stream()
+                        .map(manager -> new ManagerResponse(
+                                manager.getId(),
+                                new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
+                        ))
+                        .toList(),
+                todo.getCommentCount(),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        ));
+    }
+
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size, String weather, LocalDateTime start, LocalDateTime end) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
         }
 
-        // 기간의 시작과 끝 조건 이 있는 경우
-        if (start != null && end != null) {
-            todos = todoRepository.findTodosByModifiedDateBetween(start, end, pageable);
-            return getTodoResponses(todos);
+        // 다음 페이지 존재 여부를 확인하기 위해 size + 1 개를 조회합니다.
+        List<Todo> todos = todoRepository.findTodosAfterCursor(weather, start, end, SeekCursor.decode(cursor), size + 1);
+
+        boolean hasNext = todos.size() > size;
+        List<Todo> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = content.get(content.size() - 1);
+            nextCursor = new SeekCursor(last.getModifiedAt(), last.getId()).encode();
         }
 
-        // 아무 조건도 없는 경우
-        todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-        return getTodoResponses(todos);
+        return new CursorResponse<>(content.stream().map(TodoService::toTodoResponse).toList(), nextCursor);
     }
 
-    private static Page<TodoResponse> getTodoResponses(Page<Todo> todos) {
-        return todos.map(todo -> new TodoResponse(
+    private static TodoResponse toTodoResponse(Todo todo) {
+        return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
@@ -88,16 +149,36 @@ public class TodoService {
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
-        ));
+        );
     }
 
     public Page<TodoSearchResponse> getTodosSearch(int page, int size, String title, LocalDateTime start, LocalDateTime end, String managerName) {
 
         Pageable pageable = PageRequest.of(page - 1, size);
+        TodoSearchCondition condition = TodoSearchCondition.of(title, managerName, start, end);
+
+        List<TodoSearchResponse> content =
+                todoRepository.fetchScheduleTitlesWithCounts(condition, pageable.getOffset(), pageable.getPageSize());
+
+        // 전체 개수는 필요한 경우에만 조회하며, 같은 조건의 개수는 짧은 시간 동안 캐싱된 값을 사용합니다.
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> todoSearchCountCache.get(condition, todoRepository::countScheduleTitles));
+    }
+
+    public Slice<TodoSearchResponse> getTodosSearchSlice(int page, int size, String title, LocalDateTime start, LocalDateTime end, String managerName) {
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+        TodoSearchCondition condition = TodoSearchCondition.of(title, managerName, start, end);
+
+        // 다음 페이지 존재 여부를 확인하기 위해 size + 1 개를 조회하고, count 쿼리는 실행하지 않습니다.
+        List<TodoSearchResponse> content =
+                todoRepository.fetchScheduleTitlesWithCounts(condition, pageable.getOffset(), pageable.getPageSize() + 1);
 
-        return todoRepository.fetchScheduleTitlesWithCounts(title, managerName, start, end, pageable);
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TODO_DETAIL, key = "#todoId")
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
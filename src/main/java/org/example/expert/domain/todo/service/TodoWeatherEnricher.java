@@ -0,0 +1,157 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.todo.dto.response.TodoCreatedAt;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 새 일정의 날씨를 정합니다.
+ * <p>
+ * 비동기 모드에서는 일정을 날씨 없이(대기 상태) 저장하고, 커밋된 일정 ID를 큐에 넣어 백그라운드에서 모아 채웁니다.
+ * 날씨는 일정이 생성된 날짜 기준으로 채우며, 같은 날짜의 일정은 한 번의 UPDATE 로 갱신합니다.
+ * 큐가 가득 찼거나 날씨 표를 내려받지 못해 남은 일정은 주기적인 재처리에서 다시 채웁니다.
+ * 날씨 표에 해당 날짜가 없으면 다시 시도해도 채울 수 없으므로 {@code todo.weather.unavailable} 값을 저장하고 재처리 대상에서 뺍니다.
+ * 동기 모드에서는 기존처럼 저장 시점에 오늘의 날씨를 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherProvider weatherProvider;
+    private final Cache todoDetailCache;
+    private final boolean async;
+    private final int batchSize;
+    private final Duration reconcileDelay;
+    private final String unavailableWeather;
+    private final BlockingQueue<Long> pendingTodoIds;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherProvider weatherProvider,
+            CacheManager cacheManager,
+            @Value("${todo.weather.async:true}") boolean async,
+            @Value("${todo.weather.batch-size:100}") int batchSize,
+            @Value("${todo.weather.queue-capacity:10000}") int queueCapacity,
+            @Value("${todo.weather.reconcile-delay:30s}") Duration reconcileDelay,
+            @Value("${todo.weather.unavailable:Unknown}") String unavailableWeather
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherProvider = weatherProvider;
+        this.todoDetailCache = cacheManager.getCache(CacheConfig.TODO_DETAIL);
+        this.async = async;
+        this.batchSize = batchSize;
+        this.reconcileDelay = reconcileDelay;
+        this.unavailableWeather = unavailableWeather;
+        this.pendingTodoIds = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 새 일정에 저장할 날씨를 반환합니다. 비동기 모드에서는 대기 상태를 뜻하는 {@code null}을 반환합니다.
+     */
+    public String weatherForNewTodo() {
+        return async ? null : weatherProvider.getTodayWeather();
+    }
+
+    /**
+     * 날씨가 비어 있는 일정을 현재 트랜잭션이 커밋된 뒤 처리 대기열에 넣습니다.
+     */
+    public void enrichAfterCommit(List<Long> todoIds) {
+        if (!async || todoIds.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (Long todoId : todoIds) {
+                    // 대기열이 가득 차면 버리고, 재처리에서 채웁니다.
+                    if (!pendingTodoIds.offer(todoId)) {
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.drain-interval-ms:500}", scheduler = SchedulingConfig.TODO_WEATHER_SCHEDULER)
+    public void drain() {
+        List<Long> todoIds = new ArrayList<>(batchSize);
+        while (pendingTodoIds.drainTo(todoIds, batchSize) > 0) {
+            enrich(todoIds);
+            todoIds.clear();
+        }
+    }
+
+    /**
+     * 생성된 지 reconcileDelay 가 지나도 날씨가 비어 있는 일정을 다시 채웁니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.weather.reconcile-interval-ms:60000}", scheduler = SchedulingConfig.TODO_WEATHER_SCHEDULER)
+    public void reconcile() {
+        if (!async) {
+            return;
+        }
+
+        LocalDateTime createdBefore = LocalDateTime.now().minus(reconcileDelay);
+        long lastId = 0L;
+        while (true) {
+            List<Long> todoIds = todoRepository.findWeatherPendingIds(lastId, createdBefore, PageRequest.of(0, batchSize));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+            enrich(todoIds);
+            lastId = todoIds.get(todoIds.size() - 1);
+        }
+    }
+
+    private void enrich(List<Long> todoIds) {
+        Map<LocalDate, List<Long>> todoIdsByDate = todoRepository.findWeatherPendingByIdIn(todoIds).stream()
+                .collect(Collectors.groupingBy(
+                        todo -> todo.createdAt().toLocalDate(),
+                        Collectors.mapping(TodoCreatedAt::id, Collectors.toList())
+                ));
+
+        todoIdsByDate.forEach((date, ids) -> {
+            String weather;
+            try {
+                weather = weatherProvider.findWeather(date).orElse(null);
+            } catch (RuntimeException e) {
+                log.warn("날씨 표를 내려받지 못해 재처리에서 다시 시도합니다. date={}, count={}, reason={}", date, ids.size(), e.getMessage());
+                return;
+            }
+
+            if (weather == null) {
+                log.warn("날씨 표에 날짜가 없어 {} 로 채웁니다. date={}, count={}", unavailableWeather, date, ids.size());
+                weather = unavailableWeather;
+            }
+            try {
+                todoRepository.fillWeather(ids, weather);
+                ids.forEach(todoDetailCache::evict);
+            } catch (RuntimeException e) {
+                log.warn("일정 날씨 채우기 실패, 재처리에서 다시 시도합니다. date={}, count={}", date, ids.size(), e);
+            }
+        });
+    }
+}
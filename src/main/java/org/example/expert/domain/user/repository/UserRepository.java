@@ -2,10 +2,23 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * 비밀번호 해시가 아직 expectedPassword 일 때만 newPassword 로 바꿉니다.
+     * 그 사이 비밀번호가 바뀌었다면 아무것도 갱신하지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :expectedPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId, @Param("expectedPassword") String expectedPassword, @Param("newPassword") String newPassword);
 }
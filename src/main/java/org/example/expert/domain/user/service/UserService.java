@@ -2,12 +2,14 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.VerifiedTokenCache;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -17,13 +19,18 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * bcrypt 비교 두 번과 해시 한 번을 하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다.
+     * 조회와 저장은 각각 리포지토리의 짧은 트랜잭션에서 수행하고, 저장은 조회한 해시가 그대로일 때만 반영합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
@@ -38,7 +45,11 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String newPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+        if (userRepository.updatePasswordIfUnchanged(userId, user.getPassword(), newPassword) == 0) {
+            throw new InvalidRequestException("비밀번호가 다른 요청으로 변경되었습니다. 다시 시도해 주세요.");
+        }
+        verifiedTokenCache.revokeAfterCommit(userId);
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
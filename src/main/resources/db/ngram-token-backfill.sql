@@ -0,0 +1,40 @@
+-- 부분 일치 검색용 bi-gram 토큰 테이블을 도입하기 전에 저장된 행의 토큰을 채웁니다. (MySQL 8)
+--
+-- 토큰 테이블이 생기기 전의 행은 토큰이 없어 검색에 걸리지 않습니다.
+-- NgramTokenizer 와 같이 소문자로 바꾼 원문을 연속된 두 글자(code point) 단위로 잘라 중복 없이 넣습니다.
+-- MySQL 의 SUBSTRING, CHAR_LENGTH 는 utf8mb4 에서 code point 단위로 동작합니다.
+-- 대소문자를 구분하지 않는 콜레이션에서 다른 토큰이 하나로 합쳐지지 않도록 DISTINCT 는 utf8mb4_bin 으로 비교합니다.
+-- 토큰이 이미 있는 행은 건너뛰므로 여러 번 실행해도 됩니다.
+--
+-- 실행 순서
+--   1. 토큰 컬럼 길이를 code point 두 개가 들어가는 크기로 늘립니다.
+--   2. 새 버전을 배포한 뒤 이 스크립트를 실행합니다. 배포 후 저장되는 행은 애플리케이션이 토큰을 함께 저장합니다.
+--   행이 많으면 WHERE 절에 id 범위 조건을 더해 나누어 실행합니다.
+
+-- 1. 토큰 컬럼 길이 (NgramTokenizer.TOKEN_COLUMN_LENGTH)
+ALTER TABLE todo_title_tokens MODIFY token VARCHAR(8) NOT NULL;
+ALTER TABLE manager_nickname_tokens MODIFY token VARCHAR(8) NOT NULL;
+
+-- 2. 일정 제목 토큰
+INSERT INTO todo_title_tokens (todo_id, token)
+WITH RECURSIVE positions (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM positions WHERE n < 255
+)
+SELECT DISTINCT t.id, SUBSTRING(LOWER(t.title), p.n, 2) COLLATE utf8mb4_bin
+FROM todos t
+JOIN positions p ON p.n + 1 <= CHAR_LENGTH(t.title)
+WHERE NOT EXISTS (SELECT 1 FROM todo_title_tokens tt WHERE tt.todo_id = t.id);
+
+-- 3. 담당자 닉네임 토큰
+INSERT INTO manager_nickname_tokens (manager_id, token)
+WITH RECURSIVE positions (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM positions WHERE n < 255
+)
+SELECT DISTINCT m.id, SUBSTRING(LOWER(m.manager_nickname), p.n, 2) COLLATE utf8mb4_bin
+FROM managers m
+JOIN positions p ON p.n + 1 <= CHAR_LENGTH(m.manager_nickname)
+WHERE NOT EXISTS (SELECT 1 FROM manager_nickname_tokens mt WHERE mt.manager_id = m.id);
@@ -0,0 +1,32 @@
+-- AUTO_INCREMENT / 시퀀스 ID 에서 애플리케이션이 생성하는 TSID 로 전환합니다. (MySQL)
+--
+-- 기존 행의 ID 는 바꾸지 않습니다.
+-- TSID 는 (2024-01-01 이후 밀리초 << 22) 값이므로 2024년 이후 생성되는 ID 는 모두 2^22 * 밀리초 이상이고,
+-- 기존 ID 보다 항상 큽니다. 따라서 기존 ID 와 겹치지 않고, 기본 키 순서도 생성 순서와 같게 유지됩니다.
+-- 외래 키 컬럼은 이미 BIGINT 이므로 변경이 필요 없습니다.
+--
+-- 실행 순서
+--   1. 아래 확인 쿼리로 기존 최대 ID 가 배포 시점의 최소 TSID 보다 작은지 확인합니다.
+--   2. 애플리케이션을 내리고 이 스크립트를 실행합니다.
+--   3. 인스턴스마다 다른 TSID_NODE(0~1023) 값을 지정해 새 버전을 배포합니다.
+
+-- 1. 확인: 모든 행이 ok = 1 이어야 합니다.
+SELECT t.table_name,
+       t.max_id,
+       t.max_id < ((UNIX_TIMESTAMP(NOW(3)) * 1000 - 1704067200000) << 22) AS ok
+FROM (SELECT 'users' AS table_name, MAX(id) AS max_id FROM users
+      UNION ALL SELECT 'todos', MAX(id) FROM todos
+      UNION ALL SELECT 'comments', MAX(id) FROM comments
+      UNION ALL SELECT 'managers', MAX(id) FROM managers
+      UNION ALL SELECT 'log', MAX(id) FROM log) t;
+
+-- 2. AUTO_INCREMENT 제거
+ALTER TABLE users MODIFY id BIGINT NOT NULL;
+ALTER TABLE todos MODIFY id BIGINT NOT NULL;
+ALTER TABLE comments MODIFY id BIGINT NOT NULL;
+ALTER TABLE managers MODIFY id BIGINT NOT NULL;
+ALTER TABLE log MODIFY id BIGINT NOT NULL;
+
+-- 3. 배치 저장용으로 사용하던 시퀀스 테이블 제거
+DROP TABLE IF EXISTS todos_seq;
+DROP TABLE IF EXISTS managers_seq;
@@ -0,0 +1,80 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 날씨 서버입니다. 응답 지연과 오류 상태 코드를 주입할 수 있어, 원격 서버 없이 타임아웃/서킷 브레이커 동작을 확인할 수 있습니다.
+ */
+class StubWeatherServer implements AutoCloseable {
+
+    static final String DEFAULT_BODY = "[{\"date\":\"03-05\",\"weather\":\"Sunny\"},{\"date\":\"03-06\",\"weather\":\"Rain\"}]";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int status = 200;
+    private volatile String body = DEFAULT_BODY;
+
+    StubWeatherServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void latency(Duration latency) {
+        this.latency = latency;
+    }
+
+    void status(int status) {
+        this.status = status;
+    }
+
+    void body(String body) {
+        this.body = body;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(status, bytes.length);
+            out.write(bytes);
+        } catch (IOException ignored) {
+            // 클라이언트가 타임아웃으로 먼저 연결을 끊은 경우
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeatherClientTest {
+
+    private StubWeatherServer server;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubWeatherServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void 날씨_표를_내려받는다() {
+        WeatherClient weatherClient = weatherClient(Duration.ofSeconds(1), 10, 4);
+
+        assertThat(weatherClient.getWeatherTable()).isEqualTo(Map.of("03-05", "Sunny", "03-06", "Rain"));
+    }
+
+    @Test
+    void 응답이_읽기_타임아웃보다_늦으면_기다리지_않고_실패한다() {
+        server.latency(Duration.ofMillis(1000));
+        WeatherClient weatherClient = weatherClient(Duration.ofMillis(100), 10, 4);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(weatherClient::getWeatherTable).isInstanceOf(ServerException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(800));
+        assertThat(meterRegistry.counter("weather.client.timeouts").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패가_이어지면_서킷이_열려_원격_호출_없이_실패한다() {
+        server.status(500);
+        WeatherClient weatherClient = weatherClient(Duration.ofSeconds(1), 4, 4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(weatherClient::getWeatherTable).isInstanceOf(ServerException.class);
+        }
+        int requestsBeforeOpen = server.requestCount();
+
+        assertThatThrownBy(weatherClient::getWeatherTable)
+                .isInstanceOf(ServerException.class)
+                .hasMessage("날씨 서비스가 일시적으로 차단되었습니다.");
+        assertThat(server.requestCount()).isEqualTo(requestsBeforeOpen);
+        assertThat(meterRegistry.find("resilience4j.circuitbreaker.state").tag("state", "open").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void 응답은_성공해도_느린_호출이_이어지면_서킷이_열린다() {
+        server.latency(Duration.ofMillis(150));
+        WeatherClient weatherClient = weatherClient(Duration.ofSeconds(1), Duration.ofMillis(100), 4, 4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(weatherClient.getWeatherTable()).isNotEmpty();
+        }
+
+        assertThatThrownBy(weatherClient::getWeatherTable)
+                .isInstanceOf(ServerException.class)
+                .hasMessage("날씨 서비스가 일시적으로 차단되었습니다.");
+        assertThat(server.requestCount()).isEqualTo(4);
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_바로_실패한다() throws Exception {
+        server.latency(Duration.ofMillis(500));
+        WeatherClient weatherClient = weatherClient(Duration.ofSeconds(2), 10, 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<String> call = () -> {
+                try {
+                    weatherClient.getWeatherTable();
+                    return "ok";
+                } catch (ServerException e) {
+                    return e.getMessage();
+                }
+            };
+            List<Future<String>> results = executor.invokeAll(List.of(call, call));
+
+            assertThat(List.of(results.get(0).get(), results.get(1).get()))
+                    .containsExactlyInAnyOrder("ok", "날씨 서비스 동시 호출 수를 초과했습니다.");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(server.requestCount()).isEqualTo(1);
+    }
+
+    private WeatherClient weatherClient(Duration readTimeout, int slidingWindowSize, int maxConcurrentCalls) {
+        return weatherClient(readTimeout, Duration.ofSeconds(5), slidingWindowSize, maxConcurrentCalls);
+    }
+
+    private WeatherClient weatherClient(Duration readTimeout, Duration slowCallDuration, int slidingWindowSize, int maxConcurrentCalls) {
+        return new WeatherClient(
+                new RestTemplateBuilder(),
+                meterRegistry,
+                server.baseUrl(),
+                Duration.ofMillis(500),
+                readTimeout,
+                50,
+                slowCallDuration,
+                80,
+                slidingWindowSize,
+                Duration.ofSeconds(30),
+                maxConcurrentCalls,
+                Duration.ZERO
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeatherProviderTest {
+
+    private final WeatherClient weatherClient = mock(WeatherClient.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-05T10:00:00Z"), ZoneOffset.UTC);
+    private final WeatherProvider weatherProvider = new WeatherProvider(weatherClient, clock, "");
+
+    @Test
+    void 캐싱된_날씨_표에서_오늘의_날씨를_조회한다() {
+        when(weatherClient.getWeatherTable()).thenReturn(Map.of("03-05", "Sunny", "03-06", "Rain"));
+
+        assertThat(weatherProvider.getTodayWeather()).isEqualTo("Sunny");
+        assertThat(weatherProvider.getTodayWeather()).isEqualTo("Sunny");
+
+        verify(weatherClient, times(1)).getWeatherTable();
+    }
+
+    @Test
+    void 동시에_들어온_조회는_한_번만_내려받는다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(weatherClient.getWeatherTable()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of("03-05", "Sunny");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(weatherProvider::getTodayWeather));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(weatherClient, times(1)).getWeatherTable();
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_날씨_표를_계속_사용한다() {
+        when(weatherClient.getWeatherTable())
+                .thenReturn(Map.of("03-05", "Sunny"))
+                .thenThrow(new ServerException("날씨 데이터를 가져오는데 실패했습니다."));
+
+        weatherProvider.refresh();
+        weatherProvider.refresh();
+
+        assertThat(weatherProvider.getTodayWeather()).isEqualTo("Sunny");
+    }
+
+    @Test
+    void 오늘_날씨가_없으면_예외가_발생한다() {
+        when(weatherClient.getWeatherTable()).thenReturn(Map.of("03-06", "Rain"));
+
+        assertThatThrownBy(weatherProvider::getTodayWeather)
+                .isInstanceOf(ServerException.class)
+                .hasMessage("03-05에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 날씨를_구할_수_없으면_대체_값을_사용한다() {
+        WeatherProvider fallbackProvider = new WeatherProvider(weatherClient, clock, "Unknown");
+        when(weatherClient.getWeatherTable()).thenThrow(new ServerException("날씨 서비스가 일시적으로 차단되었습니다."));
+
+        assertThat(fallbackProvider.getTodayWeather()).isEqualTo("Unknown");
+        assertThatThrownBy(() -> fallbackProvider.getWeather(LocalDate.of(2026, 3, 5)))
+                .isInstanceOf(ServerException.class);
+    }
+}
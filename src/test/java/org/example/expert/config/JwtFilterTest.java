@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JwtFilterTest {
+
+    private final JwtUtil jwtUtil = JwtUtilTest.jwtUtil(JwtUtilTest.SECRET_KEY);
+    private final FilterChain chain = mock(FilterChain.class);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 유효한_토큰이면_인증_유저를_설정하고_다음_필터로_넘긴다() throws Exception {
+        // given
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, new VerifiedTokenCache(jwtUtil, true, 100));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request(jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.USER, "nickname")), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(Object::toString).containsExactly("ROLE_USER");
+        verify(chain).doFilter(any(), any());
+    }
+
+    @Test
+    void 토큰_검증에서_ResponseStatusException_이_나면_그_상태와_사유로_응답한다() throws Exception {
+        // given
+        VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+        given(verifiedTokenCache.verify(any())).willThrow(
+                new ResponseStatusException(HttpStatus.UNAUTHORIZED, "더 이상 사용할 수 없는 JWT 토큰입니다. 다시 로그인해 주세요."));
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, verifiedTokenCache);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request("Bearer token"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(response.getErrorMessage()).isEqualTo("더 이상 사용할 수 없는 JWT 토큰입니다. 다시 로그인해 주세요.");
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰이면_401_을_반환한다() throws Exception {
+        // given
+        JwtUtil otherJwtUtil = JwtUtilTest.jwtUtil("b3RoZXJvdGhlcm90aGVyb3RoZXJvdGhlcm90aGVyb3RoZXJvdGhlcm90aGVyb3RoZXI=");
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, new VerifiedTokenCache(jwtUtil, true, 100));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request(otherJwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.USER, "nickname")), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(response.getErrorMessage()).isEqualTo("유효하지 않는 JWT 서명입니다.");
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest request(String bearerToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        return request;
+    }
+}
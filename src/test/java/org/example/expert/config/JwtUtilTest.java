@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    static final String SECRET_KEY = "c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0";
+    private static final String OTHER_SECRET_KEY = "b3RoZXJvdGhlcm90aGVyb3RoZXJvdGhlcm90aGVyb3RoZXJvdGhlcm90aGVyb3RoZXI=";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(SECRET_KEY);
+    }
+
+    @Test
+    void 발급한_토큰을_검증하면_인증_유저와_발급_만료_시각을_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.ADMIN, "nickname"));
+
+        // when
+        VerifiedToken verifiedToken = jwtUtil.verifyToken(token);
+
+        // then
+        AuthUser authUser = verifiedToken.authUser();
+        assertThat(authUser.getId()).isEqualTo(1L);
+        assertThat(authUser.getEmail()).isEqualTo("user@example.com");
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(authUser.getNickname()).isEqualTo("nickname");
+        // exp 는 초 단위로 잘리므로 발급 시각(밀리초)과 1초 미만 차이가 날 수 있습니다.
+        assertThat(Duration.between(verifiedToken.issuedAt(), verifiedToken.expiresAt()))
+                .isBetween(Duration.ofMillis(JwtUtil.TOKEN_TIME - 1000), Duration.ofMillis(JwtUtil.TOKEN_TIME));
+    }
+
+    @Test
+    void 만료된_토큰은_거부한다() {
+        // given
+        Date issuedAt = new Date(System.currentTimeMillis() - JwtUtil.TOKEN_TIME - 1000);
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .claim("nickname", "nickname")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + JwtUtil.TOKEN_TIME))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.verifyToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_거부한다() {
+        // given
+        JwtUtil otherJwtUtil = jwtUtil(OTHER_SECRET_KEY);
+        String token = otherJwtUtil.substringToken(otherJwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.USER, "nickname"));
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.verifyToken(token)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_거부한다() {
+        assertThatThrownBy(() -> jwtUtil.verifyToken("not.a.jwt")).isInstanceOf(MalformedJwtException.class);
+    }
+
+    static JwtUtil jwtUtil(String secretKey) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
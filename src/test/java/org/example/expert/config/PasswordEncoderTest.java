@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(meterRegistry, 1, 1, Duration.ofSeconds(5), 5);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 전용_풀에서_해시하고_검증한다() {
+        String encoded = passwordEncoder.encode("Password1");
+
+        assertThat(passwordEncoder.matches("Password1", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("Password2", encoded)).isFalse();
+        assertThat(meterRegistry.timer("password.hash", "operation", "matches").count()).isEqualTo(2);
+    }
+
+    @Test
+    void 설정한_cost_와_다른_해시는_재해시가_필요하다() {
+        String current = passwordEncoder.encode("Password1");
+        String legacy = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, "Password1".toCharArray());
+
+        assertThat(current).startsWith("$2a$05$");
+        assertThat(passwordEncoder.needsRehash(current)).isFalse();
+        assertThat(passwordEncoder.needsRehash(legacy)).isTrue();
+        assertThat(passwordEncoder.matches("Password1", legacy)).isTrue();
+    }
+
+    @Test
+    void 풀과_대기열이_가득_차면_바로_거절한다() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        executor.submit(this::awaitRelease);
+        executor.submit(this::awaitRelease);
+
+        assertThatThrownBy(() -> passwordEncoder.encode("Password1"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(1);
+    }
+
+    private Void awaitRelease() throws InterruptedException {
+        release.await();
+        return null;
+    }
+}
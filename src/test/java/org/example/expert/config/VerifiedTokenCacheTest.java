@@ -0,0 +1,103 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0");
+        jwtUtil.init();
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, true, 100);
+    }
+
+    @Test
+    void 같은_토큰은_한_번만_검증한다() {
+        String token = token(1L, UserRole.USER);
+
+        AuthUser first = verifiedTokenCache.verify(token);
+        AuthUser second = verifiedTokenCache.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getUserRole()).isEqualTo(UserRole.USER);
+        verify(jwtUtil, times(1)).verifyToken(token);
+    }
+
+    @Test
+    void 폐기된_유저의_기존_토큰은_캐시에_있어도_거부한다() throws InterruptedException {
+        String token = token(1L, UserRole.USER);
+        String otherUserToken = token(2L, UserRole.USER);
+        verifiedTokenCache.verify(token);
+
+        Thread.sleep(2);
+        verifiedTokenCache.revoke(1L);
+
+        assertThatThrownBy(() -> verifiedTokenCache.verify(token))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(verifiedTokenCache.verify(otherUserToken).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_폐기한다() throws InterruptedException {
+        String token = token(1L, UserRole.USER);
+        Thread.sleep(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            verifiedTokenCache.revokeAfterCommit(1L);
+            // 커밋 전에는 기존 토큰이 그대로 유효합니다.
+            assertThat(verifiedTokenCache.verify(token).getId()).isEqualTo(1L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThatThrownBy(() -> verifiedTokenCache.verify(token))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void 폐기와_같은_초에_먼저_발급된_토큰도_거부하고_폐기_뒤에_발급된_토큰은_허용한다() throws InterruptedException {
+        // given: 초가 바뀐 직후에 발급과 폐기를 모두 같은 초 안에서 실행합니다.
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 10);
+        String issuedBefore = token(1L, UserRole.USER);
+        Thread.sleep(2);
+
+        // when
+        verifiedTokenCache.revoke(1L);
+        Thread.sleep(2);
+        String issuedAfter = token(1L, UserRole.ADMIN);
+
+        // then
+        assertThat(jwtUtil.verifyToken(issuedBefore).issuedAt().getEpochSecond())
+                .isEqualTo(jwtUtil.verifyToken(issuedAfter).issuedAt().getEpochSecond());
+        assertThatThrownBy(() -> verifiedTokenCache.verify(issuedBefore))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(verifiedTokenCache.verify(issuedAfter).getUserRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    private String token(long userId, UserRole userRole) {
+        return jwtUtil.substringToken(jwtUtil.createToken(userId, "user@example.com", "nickname", userRole, "nickname"));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.admin.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.admin.dto.response.AdminAccessEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AdminAccessLogTest {
+
+    private final AdminAccessLogFile accessLogFile = mock(AdminAccessLogFile.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdminAccessLog adminAccessLog = new AdminAccessLog(accessLogFile, meterRegistry, 4);
+
+    @Test
+    void 최근_기록을_최신순으로_조회한다() {
+        adminAccessLog.record(1L, "PATCH", "/admin/users/2", 1_000L, 5_000L, null);
+        adminAccessLog.record(null, "POST", "/admin/todos/counters/recount", 2_000L, 7_000L, "InvalidRequestException");
+
+        List<AdminAccessEvent> events = adminAccessLog.findRecent(4, null);
+
+        assertThat(events).extracting(AdminAccessEvent::uri)
+                .containsExactly("/admin/todos/counters/recount", "/admin/users/2");
+        assertThat(events.get(0).userId()).isNull();
+        assertThat(events.get(0).success()).isFalse();
+        assertThat(events.get(1).latencyMicros()).isEqualTo(5L);
+        assertThat(adminAccessLog.findRecent(4, 1L)).hasSize(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_은_새_기록만_파일로_내보낸다() {
+        adminAccessLog.record(1L, "PATCH", "/admin/users/2", 1_000L, 1_000L, null);
+        adminAccessLog.drain();
+        adminAccessLog.drain();
+        adminAccessLog.record(1L, "PATCH", "/admin/users/3", 2_000L, 1_000L, null);
+        adminAccessLog.drain();
+
+        ArgumentCaptor<List<AdminAccessEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accessLogFile, times(2)).write(captor.capture());
+        assertThat(captor.getAllValues()).extracting(events -> events.get(0).uri())
+                .containsExactly("/admin/users/2", "/admin/users/3");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_보다_먼저_덮어쓰인_기록은_유실로_집계한다() {
+        for (int i = 0; i < 6; i++) {
+            adminAccessLog.record(1L, "PATCH", "/admin/users/" + i, i, 1_000L, null);
+        }
+        adminAccessLog.drain();
+
+        ArgumentCaptor<List<AdminAccessEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accessLogFile).write(captor.capture());
+        assertThat(captor.getValue()).extracting(AdminAccessEvent::uri)
+                .containsExactly("/admin/users/2", "/admin/users/3", "/admin/users/4", "/admin/users/5");
+        assertThat(meterRegistry.counter("admin.access.log.lost").count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.expert.domain.auth.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninThrottle;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AuthControllerTest {
+
+    private static final int ATTEMPTS = 8;
+
+    private final AuthService authService = mock(AuthService.class);
+    // 이메일 버킷에는 토큰이 하나만 있고, IP 버킷은 넉넉하게 둡니다.
+    private final SigninThrottle signinThrottle = new SigninThrottle(
+            new SimpleMeterRegistry(), true,
+            1, Duration.ofHours(1),
+            100, Duration.ofHours(1),
+            1000, Duration.ofDays(1)
+    );
+    private final AuthController authController = new AuthController(authService, signinThrottle);
+
+    @Test
+    void 토큰이_하나인_이메일로_동시에_로그인하면_한_번만_비밀번호를_검증한다() throws Exception {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch rejected = new CountDownLatch(ATTEMPTS - 1);
+        CountDownLatch finishSignin = new CountDownLatch(1);
+        given(authService.signin(any())).willAnswer(invocation -> {
+            // 나머지 시도가 모두 판정될 때까지 bcrypt 검증 중인 것처럼 붙잡아 둡니다.
+            finishSignin.await(5, TimeUnit.SECONDS);
+            throw new AuthException("잘못된 비밀번호입니다.");
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(ATTEMPTS);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                String clientIp = "10.0.0." + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        signin("user@example.com", clientIp);
+                    } catch (TooManyRequestsException e) {
+                        rejected.countDown();
+                    } catch (AuthException ignored) {
+                        // 토큰을 얻은 한 번의 시도입니다.
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            assertThat(rejected.await(5, TimeUnit.SECONDS)).isTrue();
+            finishSignin.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        verify(authService, times(1)).signin(any());
+    }
+
+    @Test
+    void 로그인에_성공하면_이메일_토큰을_돌려준다() {
+        // given
+        given(authService.signin(any())).willReturn(new SigninResponse("Bearer token"));
+
+        // when
+        signin("user@example.com", "10.0.0.1");
+
+        // then
+        assertThatNoException().isThrownBy(() -> signin("user@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void 가입되지_않은_이메일이면_이메일_토큰을_돌려주고_비밀번호가_틀리면_돌려주지_않는다() {
+        // given
+        willThrow(new InvalidRequestException("가입되지 않은 유저입니다.")).given(authService).signin(any());
+        assertThatThrownBy(() -> signin("user@example.com", "10.0.0.1")).isInstanceOf(InvalidRequestException.class);
+        willThrow(new AuthException("잘못된 비밀번호입니다.")).given(authService).signin(any());
+
+        // when
+        assertThatThrownBy(() -> signin("user@example.com", "10.0.0.1")).isInstanceOf(AuthException.class);
+
+        // then
+        assertThatThrownBy(() -> signin("user@example.com", "10.0.0.1")).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private SigninResponse signin(String email, String clientIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(clientIp);
+        return authController.signin(new SigninRequest(email, "password"), request);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.domain.auth.service;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PasswordRehashServiceTest {
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 1, 10, Duration.ofSeconds(5), 5);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordRehashService passwordRehashService = new PasswordRehashService(passwordEncoder, userRepository, 10);
+    private final AuthService authService = new AuthService(userRepository, passwordEncoder, mock(JwtUtil.class), passwordRehashService);
+
+    @AfterEach
+    void tearDown() {
+        passwordRehashService.shutdown();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 다른_cost_의_해시로_로그인하면_기존_해시가_그대로일_때만_새_cost_로_갱신한다() {
+        // given
+        String legacy = BCrypt.withDefaults().hashToString(4, "Password1".toCharArray());
+        givenUser(legacy);
+        AtomicReference<String> updateThread = new AtomicReference<>();
+        when(userRepository.updatePasswordIfUnchanged(eq(1L), eq(legacy), anyString())).thenAnswer(invocation -> {
+            updateThread.set(Thread.currentThread().getName());
+            return 1;
+        });
+
+        // when
+        authService.signin(new SigninRequest("user@example.com", "Password1"));
+
+        // then: 저장은 bcrypt 풀이 아닌 별도 스레드에서 실행됩니다.
+        verify(userRepository, timeout(5000)).updatePasswordIfUnchanged(eq(1L), eq(legacy), startsWith("$2a$05$"));
+        assertThat(updateThread.get()).startsWith("password-rehash-");
+    }
+
+    @Test
+    void 설정한_cost_의_해시로_로그인하면_다시_해시하지_않는다() throws InterruptedException {
+        // given
+        givenUser(passwordEncoder.encode("Password1"));
+
+        // when
+        authService.signin(new SigninRequest("user@example.com", "Password1"));
+
+        // then
+        Thread.sleep(200);
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+
+    private void givenUser(String password) {
+        User user = new User("user@example.com", "nickname", password, UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class SigninThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final SigninThrottle signinThrottle = new SigninThrottle(
+            meterRegistry, true,
+            2, Duration.ofHours(1),
+            3, Duration.ofHours(1),
+            1000, Duration.ofDays(1),
+            nanos::get
+    );
+
+    @Test
+    void 같은_이메일은_대소문자와_관계없이_돌려받지_않은_시도가_capacity_번이면_거절한다() {
+        signinThrottle.acquire("user@example.com", "10.0.0.1");
+        signinThrottle.acquire(" USER@example.com", "10.0.0.2");
+
+        assertThatThrownBy(() -> signinThrottle.acquire("user@example.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatNoException().isThrownBy(() -> signinThrottle.acquire("other@example.com", "10.0.0.3"));
+        assertThat(meterRegistry.counter("auth.signin.throttle", "key", "email", "result", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 돌려받은_시도는_이메일_버킷을_줄이지_않고_가득_찬_버킷은_지운다() {
+        // 서로 다른 IP 에서 같은 이메일로 capacity 보다 많이 시도해도, 매번 돌려받았다면 거절하지 않습니다.
+        for (int i = 0; i < 3; i++) {
+            signinThrottle.acquire("user@example.com", "10.0.0." + i);
+            signinThrottle.release("user@example.com");
+        }
+
+        assertThatNoException().isThrownBy(() -> signinThrottle.acquire("user@example.com", "10.0.0.9"));
+        signinThrottle.release("user@example.com");
+        assertThat(meterRegistry.get("auth.signin.throttle.keys").tag("key", "email").gauge().value()).isZero();
+    }
+
+    @Test
+    void 같은_IP_는_여러_계정에_걸쳐_capacity_만큼만_허용한다() {
+        for (int i = 0; i < 3; i++) {
+            signinThrottle.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> signinThrottle.acquire("user9@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.counter("auth.signin.throttle", "key", "ip", "result", "rejected").count()).isEqualTo(1);
+        // IP 에서 거절된 시도는 이메일 버킷을 건드리지 않습니다.
+        assertThat(meterRegistry.get("auth.signin.throttle.keys").tag("key", "email").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void 거절하면_다음_토큰까지_남은_초를_Retry_After_로_알려주고_채워지면_다시_허용한다() {
+        signinThrottle.acquire("user@example.com", "10.0.0.2");
+        signinThrottle.acquire("user@example.com", "10.0.0.3");
+
+        assertThat(retryAfterSeconds("user@example.com")).isEqualTo(3600);
+
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos() + 1);
+        assertThat(retryAfterSeconds("user@example.com")).isEqualTo(1800);
+
+        // refill-interval 이 지나면 토큰이 하나 채워집니다.
+        nanos.addAndGet(Duration.ofMinutes(30).toNanos());
+        assertThatNoException().isThrownBy(() -> signinThrottle.acquire("user@example.com", "10.0.0.2"));
+
+        assertThat(retryAfterSeconds("user@example.com")).isEqualTo(3600);
+    }
+
+    private long retryAfterSeconds(String email) {
+        try {
+            signinThrottle.acquire(email, "10.0.0.1");
+        } catch (TooManyRequestsException e) {
+            return e.getRetryAfterSeconds();
+        }
+        throw new AssertionError("거절되어야 합니다.");
+    }
+}
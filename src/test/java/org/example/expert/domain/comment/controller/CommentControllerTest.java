@@ -0,0 +1,77 @@
+package org.example.expert.domain.comment.controller;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.service.TodoETagService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CommentController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // WebConfig 가 JPAQueryFactory 를 만들 때 필요합니다.
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private CommentService commentService;
+
+    @MockBean
+    private TodoETagService todoETagService;
+
+    private final CommentResponse comment = new CommentResponse(10L, "contents", new UserResponse(1L, "user@example.com"));
+
+    @Test
+    void all_true_로_조회하면_기존과_같이_댓글_전체를_배열로_반환한다() throws Exception {
+        // given
+        when(todoETagService.findETag(1L)).thenReturn(Optional.empty());
+        when(commentService.getAllComments(1L)).thenReturn(List.of(comment));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L).param("all", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].id").value(10L))
+                .andExpect(jsonPath("$[0].user.email").value("user@example.com"));
+        verify(commentService, never()).getComments(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void all_없이_조회하면_기본_limit_으로_커서_응답을_반환한다() throws Exception {
+        // given
+        when(todoETagService.findETag(1L)).thenReturn(Optional.empty());
+        when(commentService.getComments(1L, null, 20)).thenReturn(new CursorResponse<>(List.of(comment), "next"));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(10L))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        verify(commentService, never()).getAllComments(anyLong());
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 댓글 커서 조회가 (createdAt, id) 순서로 빠짐없이, 중복 없이 이어지는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-cursor;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebConfig.class, PersistenceConfig.class})
+class CommentCursorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 작성일이_같은_댓글은_id_순으로_페이지_경계를_넘어_이어서_조회한다() {
+        // given: 작성일이 같은 댓글 묶음이 페이지 경계에 걸치도록 만들고, 다른 일정의 댓글도 섞습니다.
+        User user = new User("user@example.com", "nickname", "password", UserRole.USER);
+        entityManager.persist(user);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        Todo otherTodo = new Todo("other", "contents", "Sunny", user);
+        entityManager.persist(todo);
+        entityManager.persist(otherTodo);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Comment comment = new Comment("comment" + i, user, todo);
+            entityManager.persist(comment);
+            comments.add(comment);
+            entityManager.persist(new Comment("other" + i, user, otherTodo));
+        }
+        entityManager.flush();
+
+        LocalDateTime tied = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        for (int i = 0; i < comments.size(); i++) {
+            LocalDateTime createdAt = i < 5 ? tied : tied.plusDays(i);
+            jdbcTemplate.update("UPDATE comments SET created_at = ? WHERE id = ?", createdAt, comments.get(i).getId());
+        }
+        entityManager.clear();
+
+        List<Long> expected = commentRepository.findByTodoIdWithUser(todo.getId()).stream()
+                .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId))
+                .map(Comment::getId)
+                .toList();
+        entityManager.clear();
+
+        CommentService commentService = new CommentService(todoRepository, commentRepository, mock(TodoOwnerCache.class));
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<CommentResponse> page = commentService.getComments(todo.getId(), cursor, 2);
+            page.getContent().forEach(comment -> actual.add(comment.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(actual).hasSize(7).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final TodoOwnerCache todoOwnerCache = new TodoOwnerCache(todoRepository, true, Duration.ofMinutes(10), 100);
+    private final CommentService commentService = new CommentService(todoRepository, commentRepository, todoOwnerCache);
+
+    private final AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER, "nickname");
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101, Integer.MAX_VALUE})
+    void 댓글_커서_조회의_limit_이_범위를_벗어나면_예외가_발생한다(int limit) {
+        assertThatThrownBy(() -> commentService.getComments(1L, null, limit))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("limit은 1 이상 100 이하여야 합니다.");
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void 댓글_작성_시_일정이_없으면_캐시된_작성자_조회로_거절하고_일정을_읽지_않는다() {
+        // given
+        when(todoRepository.findOwnerIdById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> commentService.saveComment(authUser, 1L, new CommentSaveRequest("contents")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Todo not found");
+        verify(todoRepository, never()).findById(anyLong());
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void 같은_일정에_연속으로_댓글을_쓰면_작성자_ID는_한_번만_조회한다() {
+        // given
+        when(todoRepository.findOwnerIdById(1L)).thenReturn(Optional.of(2L));
+        when(todoRepository.getReferenceById(1L)).thenReturn(todo(1L));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        commentService.saveComment(authUser, 1L, new CommentSaveRequest("first"));
+        commentService.saveComment(authUser, 1L, new CommentSaveRequest("second"));
+
+        // then
+        verify(todoRepository, times(1)).findOwnerIdById(1L);
+        verify(todoRepository, never()).findById(anyLong());
+        verify(todoRepository, times(2)).increaseCommentCount(1L);
+    }
+
+    private static Todo todo(long id) {
+        Todo todo = new Todo();
+        ReflectionTestUtils.setField(todo, "id", id);
+        return todo;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.common.cursor;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeekCursorTest {
+
+    @Test
+    void 인코딩한_커서를_디코딩하면_같은_위치가_된다() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_456_789), 370274488576638976L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(SeekCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 초_이하가_0_인_시각도_그대로_복원한다() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2024, 1, 2, 3, 4), 1L);
+
+        assertThat(SeekCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지를_뜻하는_null_을_반환한다() {
+        assertThat(SeekCursor.decode(null)).isNull();
+        assertThat(SeekCursor.decode("")).isNull();
+        assertThat(SeekCursor.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "2024-01-02T03:04:05", "2024-01-02T03:04:05|", "not-a-date|1", "2024-01-02T03:04:05|abc"})
+    void 잘못된_커서는_예외가_발생한다(String raw) {
+        String cursor = raw.equals("not base64!")
+                ? raw
+                : Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SeekCursor.decode(cursor))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+}
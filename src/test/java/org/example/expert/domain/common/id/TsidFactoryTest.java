@@ -0,0 +1,93 @@
+package org.example.expert.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsidFactoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void 같은_밀리초의_순번을_모두_사용해도_ID는_겹치지_않고_증가한다() {
+        TsidFactory factory = new TsidFactory(1, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = factory.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            ids.add(id);
+        }
+
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_ID는_감소하지_않는다() {
+        MutableClock clock = new MutableClock(NOW.toEpochMilli());
+        TsidFactory factory = new TsidFactory(1, clock);
+
+        long first = factory.next();
+        clock.millis -= 1_000;
+        long second = factory.next();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void 노드가_다르면_같은_시각에도_ID가_다르다() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+        long id1 = new TsidFactory(1, clock).next();
+        long id2 = new TsidFactory(2, clock).next();
+
+        assertThat(id1).isNotEqualTo(id2);
+        assertThat(id1 >>> (TsidFactory.NODE_BITS + TsidFactory.SEQUENCE_BITS))
+                .isEqualTo(id2 >>> (TsidFactory.NODE_BITS + TsidFactory.SEQUENCE_BITS))
+                .isEqualTo(NOW.toEpochMilli() - TsidFactory.EPOCH_MILLIS);
+    }
+
+    @Test
+    void 노드_번호가_범위를_벗어나면_예외가_발생한다() {
+        assertThatThrownBy(() -> new TsidFactory(TsidFactory.MAX_NODE + 1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
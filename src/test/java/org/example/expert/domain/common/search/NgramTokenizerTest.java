@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    void 소문자로_바꾼_뒤_연속된_두_글자씩_자른다() {
+        assertThat(NgramTokenizer.tokenize("AbCd")).containsExactly("ab", "bc", "cd");
+        assertThat(NgramTokenizer.tokenize("할 일")).containsExactly("할 ", " 일");
+    }
+
+    @Test
+    void 중복된_토큰은_처음_나온_순서로_한_번만_반환한다() {
+        assertThat(NgramTokenizer.tokenize("abab")).containsExactly("ab", "ba");
+    }
+
+    @Test
+    void 두_글자보다_짧거나_null_이면_토큰이_없다() {
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NgramTokenizer.tokenize("")).isEmpty();
+        assertThat(NgramTokenizer.tokenize("a")).isEmpty();
+    }
+
+    @Test
+    void 보조_평면_문자는_code_point_단위로_자르고_컬럼_길이에_들어간다() {
+        // "😀" 는 UTF-16 으로 2 char, UTF-8 로 4 byte 입니다.
+        assertThat(NgramTokenizer.tokenize("a😀b")).containsExactly("a😀", "😀b");
+        assertThat(NgramTokenizer.tokenize("😀😀😀")).singleElement().satisfies(token -> {
+            assertThat(token.codePointCount(0, token.length())).isEqualTo(NgramTokenizer.GRAM_SIZE);
+            assertThat(token.getBytes(StandardCharsets.UTF_8).length)
+                    .isLessThanOrEqualTo(NgramTokenizer.TOKEN_COLUMN_LENGTH);
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.domain.log.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.log.entity.Log;
+import org.example.expert.domain.log.repository.LogRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditLogWriterTest {
+
+    private final LogRepository logRepository = mock(LogRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> savedBatchSizes = new ArrayList<>();
+
+    private AuditLogWriter writer(int batchSize, int queueCapacity) {
+        when(logRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Log> logs = invocation.getArgument(0);
+            savedBatchSizes.add(logs.size());
+            return logs;
+        });
+        return new AuditLogWriter(logRepository, meterRegistry, batchSize, queueCapacity, Duration.ZERO);
+    }
+
+    @Test
+    void 쌓인_로그를_batch_size_단위로_나눠_저장한다() {
+        AuditLogWriter writer = writer(2, 10);
+        for (int i = 0; i < 5; i++) {
+            writer.append(new Log("성공", LocalDateTime.now()));
+        }
+
+        verify(logRepository, never()).saveAll(anyList());
+        writer.flush();
+
+        assertThat(savedBatchSizes).containsExactly(2, 2, 1);
+        assertThat(meterRegistry.counter("audit.log.written").count()).isEqualTo(5);
+    }
+
+    @Test
+    void 큐가_가득_차면_로그를_버리고_집계한다() {
+        AuditLogWriter writer = writer(10, 2);
+        for (int i = 0; i < 3; i++) {
+            writer.append(new Log("성공", LocalDateTime.now()));
+        }
+        writer.flush();
+
+        assertThat(savedBatchSizes).containsExactly(2);
+        assertThat(meterRegistry.counter("audit.log.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 종료_시_남은_로그를_저장하고_이후_로그는_버린다() {
+        AuditLogWriter writer = writer(10, 10);
+        writer.append(new Log("성공", LocalDateTime.now()));
+
+        writer.close();
+        writer.append(new Log("성공", LocalDateTime.now()));
+        writer.flush();
+
+        assertThat(savedBatchSizes).containsExactly(1);
+        assertThat(meterRegistry.counter("audit.log.dropped").count()).isEqualTo(1);
+    }
+}
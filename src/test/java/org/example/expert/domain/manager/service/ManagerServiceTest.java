@@ -0,0 +1,185 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerAssignment;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ManagerServiceTest {
+
+    private final ManagerRepository managerRepository = mock(ManagerRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoOwnerCache todoOwnerCache = new TodoOwnerCache(todoRepository, true, Duration.ofMinutes(10), 100);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.TODO_DETAIL);
+    private final ManagerService managerService =
+            new ManagerService(managerRepository, userRepository, todoRepository, todoOwnerCache, cacheManager);
+
+    private final AuthUser owner = new AuthUser(1L, "owner@example.com", UserRole.USER, "owner");
+
+    // saveManagers 는 트랜잭션 안에서 커밋 후 작업을 등록합니다.
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 담당자_추가와_삭제는_캐시된_작성자_ID로_작성자가_아닌_유저를_거절한다() {
+        // given: 일정 10 의 작성자는 유저 2 입니다.
+        when(todoRepository.findOwnerIdById(10L)).thenReturn(Optional.of(2L));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(owner, 10L, new ManagerSaveRequest(3L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        assertThatThrownBy(() -> managerService.deleteManager(owner, 10L, 100L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("해당 일정을 만든 유저가 유효하지 않습니다.");
+
+        verify(todoRepository, times(1)).findOwnerIdById(10L);
+        verify(todoRepository, never()).findById(anyLong());
+        verifyNoInteractions(userRepository, managerRepository);
+    }
+
+    @Test
+    void 일괄_배치_시_본인이_만들지_않은_일정이_있으면_예외가_발생한다() {
+        // given
+        when(todoRepository.findIdsByIdInAndUserId(anyCollection(), any())).thenReturn(List.of(10L));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(owner, new ManagerBatchSaveRequest(List.of(10L, 11L), List.of(2L))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        verify(managerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void 일괄_배치_시_존재하지_않는_유저가_있으면_예외가_발생한다() {
+        // given
+        when(todoRepository.findIdsByIdInAndUserId(anyCollection(), any())).thenReturn(List.of(10L));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user(2L)));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(owner, new ManagerBatchSaveRequest(List.of(10L), List.of(2L, 3L))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        verify(managerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void 일괄_배치_시_본인을_담당자로_지정하면_예외가_발생한다() {
+        assertThatThrownBy(() -> managerService.saveManagers(owner, new ManagerBatchSaveRequest(List.of(10L), List.of(1L))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 일괄_배치는_이미_배치된_조합을_건너뛰고_일정별로_추가된_수만큼_담당자_수를_늘린다() {
+        // given: 일정 10 에는 유저 2 가 이미 담당자입니다.
+        givenBatch(List.of(10L, 11L), List.of(user(2L), user(3L)));
+        when(managerRepository.findAssignments(anyCollection(), anyCollection()))
+                .thenReturn(List.of(new ManagerAssignment(10L, 2L)));
+
+        // when
+        ManagerBatchSaveResponse response = managerService.saveManagers(owner,
+                new ManagerBatchSaveRequest(List.of(10L, 11L, 10L), List.of(2L, 3L)));
+
+        // then
+        assertThat(response.getCreatedCount()).isEqualTo(3);
+        assertThat(response.getSkippedCount()).isEqualTo(1);
+
+        ArgumentCaptor<List<Manager>> saved = ArgumentCaptor.forClass(List.class);
+        verify(managerRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(manager -> manager.getTodo().getId(), manager -> manager.getUser().getId())
+                .containsExactly(
+                        tuple(10L, 3L),
+                        tuple(11L, 2L),
+                        tuple(11L, 3L)
+                );
+        verify(todoRepository).addManagerCount(10L, 1);
+        verify(todoRepository).addManagerCount(11L, 2);
+    }
+
+    @Test
+    void 일괄_배치는_커밋된_뒤에_담당자가_추가된_일정의_상세_캐시만_비운다() {
+        // given
+        givenBatch(List.of(10L, 11L), List.of(user(2L)));
+        when(managerRepository.findAssignments(anyCollection(), anyCollection()))
+                .thenReturn(List.of(new ManagerAssignment(11L, 2L)));
+        Cache cache = cacheManager.getCache(CacheConfig.TODO_DETAIL);
+        cache.put(10L, "todo10");
+        cache.put(11L, "todo11");
+
+        // when
+        managerService.saveManagers(owner, new ManagerBatchSaveRequest(List.of(10L, 11L), List.of(2L)));
+
+        // then: 커밋 전에는 캐시가 그대로입니다.
+        assertThat(cache.get(10L)).isNotNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get(10L)).isNull();
+        assertThat(cache.get(11L)).isNotNull();
+    }
+
+    private void givenBatch(List<Long> ownedTodoIds, List<User> managerUsers) {
+        when(todoRepository.findIdsByIdInAndUserId(anyCollection(), any())).thenReturn(ownedTodoIds);
+        when(userRepository.findAllById(any())).thenReturn(managerUsers);
+        when(todoRepository.getReferenceById(anyLong())).thenAnswer(invocation -> todo(invocation.getArgument(0)));
+    }
+
+    private static User user(long id) {
+        User user = new User("user" + id + "@example.com", "nickname" + id, "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private static Todo todo(long id) {
+        Todo todo = new Todo();
+        ReflectionTestUtils.setField(todo, "id", id);
+        return todo;
+    }
+}
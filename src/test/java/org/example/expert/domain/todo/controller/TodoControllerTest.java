@@ -1,35 +1,70 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.persistence.EntityManager;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoVersion;
+import org.example.expert.domain.todo.export.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoETagService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TodoController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class TodoControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    // WebConfig 가 JPAQueryFactory 를 만들 때 필요합니다.
+    @MockBean
+    private EntityManager entityManager;
+
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @MockBean
+    private TodoETagService todoETagService;
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
@@ -75,4 +110,88 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    void todo_단건_조회의_If_None_Match_가_현재_ETag_와_같으면_304_를_반환한다() throws Exception {
+        // given
+        long todoId = 1L;
+        String eTag = new TodoVersion(LocalDateTime.of(2024, 1, 2, 3, 4, 5), 3).toETag();
+        when(todoETagService.findETag(todoId)).thenReturn(Optional.of(eTag));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId).header(HttpHeaders.IF_NONE_MATCH, "\"" + eTag + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + eTag + "\""))
+                .andExpect(content().string(""));
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    void todo_단건_조회는_childVersion_이_바뀌면_새_ETag_와_함께_200_을_반환한다() throws Exception {
+        // given: 댓글이 추가되어 childVersion 만 바뀐 경우
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        String oldETag = new TodoVersion(modifiedAt, 3).toETag();
+        String newETag = new TodoVersion(modifiedAt, 4).toETag();
+        when(todoETagService.findETag(todoId)).thenReturn(Optional.of(newETag));
+        when(todoService.getTodo(todoId)).thenReturn(new TodoResponse(
+                todoId, "title", "contents", "Sunny", new UserResponse(1L, "email"), modifiedAt, modifiedAt));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId).header(HttpHeaders.IF_NONE_MATCH, "\"" + oldETag + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + newETag + "\""))
+                .andExpect(jsonPath("$.id").value(todoId));
+    }
+
+    @Test
+    void todo_내보내기는_지정한_형식으로_본문을_스트리밍한다() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(6);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(todoExportService).exportTodos(eq(TodoExportFormat.NDJSON), any(), any(), any(), any(), any(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void todo_내보내기_형식이_잘못되면_예외가_발생한다() throws Exception {
+        mockMvc.perform(get("/todos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(todoExportService);
+    }
+
+    @Test
+    void todo_일괄_생성은_500_개까지_허용한다() throws Exception {
+        mockMvc.perform(post("/todos/batch").contentType(MediaType.APPLICATION_JSON).content(batchBody(500)))
+                .andExpect(status().isOk());
+
+        verify(todoService).saveTodos(any(), any());
+    }
+
+    @Test
+    void todo_일괄_생성이_500_개를_넘으면_예외가_발생한다() throws Exception {
+        mockMvc.perform(post("/todos/batch").contentType(MediaType.APPLICATION_JSON).content(batchBody(501)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(todoService);
+    }
+
+    private static String batchBody(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"title\":\"title" + i + "\",\"contents\":\"contents\"}")
+                .collect(Collectors.joining(",", "{\"todos\":[", "]}"));
+    }
 }
@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TodoExportWriterTest {
+
+    // 스프링 부트 기본 설정과 같이 날짜를 ISO 문자열로 씁니다.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    @Test
+    void csv_특수문자가_없는_필드는_그대로_쓰고_null은_빈칸으로_쓴다() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TodoExportWriter writer = TodoExportWriter.of(TodoExportFormat.CSV, out, objectMapper);
+        TodoExportRow row = new TodoExportRow(1L, "title", "contents", null, 2L, "a@a.com", 0L, 3L, CREATED_AT, CREATED_AT);
+
+        // when
+        writer.writeHeader();
+        writer.writeRow(row);
+        writer.flush();
+
+        // then
+        assertEquals(
+                "id,title,contents,weather,userId,userEmail,managerCount,commentCount,createdAt,modifiedAt\n"
+                        + "1,title,contents,,2,a@a.com,0,3,2024-01-02T03:04:05,2024-01-02T03:04:05\n",
+                out.toString()
+        );
+    }
+
+    @Test
+    void csv_구분자_따옴표_줄바꿈이_있는_필드는_따옴표로_감싸고_내부_따옴표를_두_번_쓴다() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TodoExportWriter writer = TodoExportWriter.of(TodoExportFormat.CSV, out, objectMapper);
+        TodoExportRow row = new TodoExportRow(1L, "a,b", "say \"hi\"", "line1\nline2", 2L, "cr\rlf", 0L, 0L, null, null);
+
+        // when
+        writer.writeRow(row);
+        writer.flush();
+
+        // then
+        assertEquals("1,\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",2,\"cr\rlf\",0,0,,\n", out.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=1+1", "+1", "-1", "@SUM(A1)", "\tcmd"})
+    void csv_수식으로_시작하는_문자열_필드는_앞에_작은따옴표를_붙인다(String title) throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TodoExportWriter writer = TodoExportWriter.of(TodoExportFormat.CSV, out, objectMapper);
+        TodoExportRow row = new TodoExportRow(1L, title, "=HYPERLINK(\"http://x\",\"a,b\")", null, 2L, "a@a.com", 0L, 0L, null, null);
+
+        // when
+        writer.writeRow(row);
+        writer.flush();
+
+        // then: 수식 문자로 시작하지 않는 필드는 그대로 두고, 따옴표로 감쌀 때도 ' 는 따옴표 안에 들어갑니다.
+        assertEquals("1,'" + title + ",\"'=HYPERLINK(\"\"http://x\"\",\"\"a,b\"\")\",,2,a@a.com,0,0,,\n", out.toString());
+    }
+
+    @Test
+    void ndjson_한_행을_한_줄의_JSON으로_쓴다() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TodoExportWriter writer = TodoExportWriter.of(TodoExportFormat.NDJSON, out, objectMapper);
+
+        // when
+        writer.writeHeader();
+        writer.writeRow(new TodoExportRow(1L, "line1\nline2", "contents", "Sunny", 2L, "a@a.com", 1L, 3L, CREATED_AT, null));
+        writer.writeRow(new TodoExportRow(2L, "title", "contents", null, 2L, "a@a.com", 0L, 0L, CREATED_AT, CREATED_AT));
+        writer.flush();
+
+        // then
+        String[] lines = out.toString().split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("line1\nline2", first.get("title").asText());
+        assertEquals("a@a.com", first.get("userEmail").asText());
+        assertEquals(3L, first.get("commentCount").asLong());
+        assertEquals("2024-01-02T03:04:05", first.get("createdAt").asText());
+        assertEquals(true, first.get("modifiedAt").isNull());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(2L, second.get("id").asLong());
+        assertEquals(true, second.get("weather").isNull());
+    }
+}
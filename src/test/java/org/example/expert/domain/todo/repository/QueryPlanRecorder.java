@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 테스트 중 실행되는 SELECT 문과 바인딩된 파라미터를 기록합니다.
+ * <p>
+ * DataSource를 프록시로 감싸 PreparedStatement의 set* 호출을 가로채므로,
+ * 기록된 SQL을 실제와 같은 파라미터로 다시 EXPLAIN 할 수 있습니다.
+ * </p>
+ */
+public class QueryPlanRecorder implements BeanPostProcessor {
+
+    public record RecordedQuery(String sql, List<Object> parameters) {
+    }
+
+    private static final List<RecordedQuery> queries = new ArrayList<>();
+
+    public static synchronized void clear() {
+        queries.clear();
+    }
+
+    public static synchronized List<RecordedQuery> queries() {
+        return List.copyOf(queries);
+    }
+
+    private static synchronized void record(RecordedQuery query) {
+        queries.add(query);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? proxyConnection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return proxyStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement proxyStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            }
+            if (method.getName().equals("executeQuery") && sql.stripLeading().toLowerCase().startsWith("select")) {
+                record(new RecordedQuery(sql, new ArrayList<>(parameters.values())));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryPlanRecorder.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoCounterService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정의 담당자 수/댓글 수 카운터가 실제 행 개수와 맞는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-counter;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebConfig.class, PersistenceConfig.class})
+class TodoCounterTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User("owner@example.com", "owner", "password", UserRole.USER);
+        other = new User("other@example.com", "other", "password", UserRole.USER);
+        entityManager.persist(owner);
+        entityManager.persist(other);
+    }
+
+    @Test
+    void 댓글과_담당자를_쓸_때마다_카운터와_하위_버전이_함께_갱신된다() {
+        // given: 일정을 만들면 작성자가 담당자로 함께 저장됩니다.
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+        entityManager.persist(todo);
+
+        // when
+        entityManager.persist(new Comment("c1", other, todo));
+        todoRepository.increaseCommentCount(todo.getId());
+        entityManager.persist(new Comment("c2", other, todo));
+        todoRepository.increaseCommentCount(todo.getId());
+
+        Manager manager = new Manager(other, todo);
+        entityManager.persist(manager);
+        todoRepository.addManagerCount(todo.getId(), 1);
+        entityManager.remove(manager);
+        todoRepository.addManagerCount(todo.getId(), -1);
+        entityManager.flush();
+
+        // then
+        Map<String, Object> row = counters(todo.getId());
+        assertThat(row.get("comment_count")).isEqualTo(2L);
+        assertThat(row.get("manager_count")).isEqualTo(1L);
+        assertThat(row.get("child_version")).isEqualTo(4L);
+        assertCountersMatchRows();
+    }
+
+    @Test
+    void 청크를_나누어_재계산하면_어긋난_카운터가_실제_행_개수로_돌아온다() {
+        // given: 재계산 청크(1000건)를 넘도록 일정을 만들고 카운터를 어긋나게 합니다.
+        int todoCount = 1003;
+        for (int i = 0; i < todoCount; i++) {
+            Todo todo = new Todo("title" + i, "contents", "Sunny", owner);
+            entityManager.persist(todo);
+            if (i % 500 == 0) {
+                entityManager.persist(new Comment("comment", other, todo));
+                entityManager.persist(new Manager(other, todo));
+            }
+        }
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE todos SET manager_count = 99, comment_count = 7");
+
+        // when
+        long recounted = new TodoCounterService(todoRepository).recountAll();
+
+        // then
+        assertThat(recounted).isEqualTo(todoCount);
+        assertCountersMatchRows();
+    }
+
+    private Map<String, Object> counters(Long todoId) {
+        return jdbcTemplate.queryForMap("SELECT manager_count, comment_count, child_version FROM todos WHERE id = ?", todoId);
+    }
+
+    private void assertCountersMatchRows() {
+        List<Map<String, Object>> drifted = jdbcTemplate.queryForList(
+                "SELECT t.id FROM todos t " +
+                        "WHERE t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id) " +
+                        "OR t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id)");
+        assertThat(drifted).isEmpty();
+    }
+}
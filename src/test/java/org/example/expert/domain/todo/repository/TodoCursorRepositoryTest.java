@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.common.cursor.SeekCursor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * (modifiedAt, id) seek 조건으로 이어서 조회할 때 행이 빠지거나 중복되지 않는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-cursor;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebConfig.class, PersistenceConfig.class})
+class TodoCursorRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 수정일이_같은_일정은_id_역순으로_이어서_조회한다() {
+        // given: 수정일이 같은 일정 묶음을 페이지 경계에 걸치도록 만듭니다.
+        User user = new User("user@example.com", "nickname", "password", UserRole.USER);
+        entityManager.persist(user);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Todo todo = new Todo("title" + i, "contents", "Sunny", user);
+            entityManager.persist(todo);
+            todos.add(todo);
+        }
+        entityManager.flush();
+
+        LocalDateTime tied = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        for (int i = 0; i < todos.size(); i++) {
+            LocalDateTime modifiedAt = i < 5 ? tied : tied.minusDays(i);
+            jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", modifiedAt, todos.get(i).getId());
+        }
+        entityManager.clear();
+
+        List<Long> expected = todoRepository.findAll().stream()
+                .sorted(Comparator.comparing(Todo::getModifiedAt).thenComparing(Todo::getId).reversed())
+                .map(Todo::getId)
+                .toList();
+        entityManager.clear();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        SeekCursor cursor = null;
+        while (true) {
+            List<Todo> page = todoRepository.findTodosAfterCursor(null, null, null, cursor, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(todo -> actual.add(todo.getId()));
+            Todo last = page.get(page.size() - 1);
+            // 커서는 문자열로 주고받으므로 인코딩을 거친 값으로 이어서 조회합니다.
+            cursor = SeekCursor.decode(new SeekCursor(last.getModifiedAt(), last.getId()).encode());
+        }
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+}
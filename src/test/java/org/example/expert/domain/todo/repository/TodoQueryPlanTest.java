@@ -0,0 +1,200 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.common.cursor.SeekCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/검색 쿼리의 실행 계획을 검사합니다.
+ * <p>
+ * MySQL 모드의 H2에 데이터를 넣고, 리포지토리가 실제로 실행한 SELECT 문을 같은 파라미터로 EXPLAIN 합니다.
+ * 전체 테이블 스캔이 있거나, 정렬을 인덱스 순서로 처리하지 못하면(filesort) 실패합니다.
+ * H2는 동등 조건 뒤의 정렬 키를 인덱스 정렬로 표시하지 않으므로, 그런 쿼리는 사용하는 복합 인덱스를 확인합니다.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebConfig.class, PersistenceConfig.class, QueryPlanRecorder.class})
+class TodoQueryPlanTest {
+
+    private static final String[] WEATHERS = {"Sunny", "Rain", "Cloudy", "Snow"};
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        // H2의 ANALYZE는 트랜잭션을 커밋하므로, 한 번 넣은 데이터는 테스트 간에 유지됩니다.
+        if (todoRepository.count() > 0) {
+            return;
+        }
+
+        User user = new User("user@example.com", "nickname", "password", UserRole.USER);
+        entityManager.persist(user);
+        for (int i = 0; i < 500; i++) {
+            entityManager.persist(new Todo("title" + i, "contents", WEATHERS[i % WEATHERS.length], user));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 옵티마이저가 실제 데이터 분포로 계획을 세우도록 통계를 갱신합니다.
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void 조건_없는_목록_조회는_인덱스_순서로_정렬한다() {
+        List<String> plans = explain(() -> todoRepository.findTodos(null, null, null, PageRequest.of(3, 10)));
+
+        assertNoFullScan(plans);
+        assertThat(plans.get(0)).contains("idx_todos_modified_at_id").contains("index sorted");
+    }
+
+    @Test
+    void 날씨_조건_목록_조회는_날씨_복합_인덱스를_사용한다() {
+        List<String> plans = explain(() -> todoRepository.findTodos("Rain", null, null, PageRequest.of(3, 10)));
+
+        assertNoFullScan(plans);
+        // ID 페이지 조회와 count 조회가 날씨 복합 인덱스를 사용하고, 채우는 쿼리는 기본 키로 조회합니다.
+        assertThat(plans.get(0)).contains("idx_todos_weather_modified_at_id");
+        assertThat(plans.get(plans.size() - 1)).contains("idx_todos_weather_modified_at_id");
+    }
+
+    @Test
+    void 기간_조건_목록_조회는_인덱스_범위_스캔과_인덱스_정렬을_사용한다() {
+        List<String> plans = explain(() -> todoRepository.findTodos(null, now.minusDays(1), now.plusDays(1), PageRequest.of(3, 10)));
+
+        assertNoFullScan(plans);
+        assertThat(plans.get(0)).contains("idx_todos_modified_at_id").contains("index sorted");
+    }
+
+    @Test
+    void 날씨와_기간_조건_목록_조회는_날씨_복합_인덱스를_사용한다() {
+        List<String> plans = explain(() -> todoRepository.findTodos("Rain", now.minusDays(1), now.plusDays(1), PageRequest.of(3, 10)));
+
+        assertNoFullScan(plans);
+        // ID 페이지 조회와 count 조회가 날씨 복합 인덱스를 사용하고, 채우는 쿼리는 기본 키로 조회합니다.
+        assertThat(plans.get(0)).contains("idx_todos_weather_modified_at_id");
+        assertThat(plans.get(plans.size() - 1)).contains("idx_todos_weather_modified_at_id");
+    }
+
+    @Test
+    void 상세_목록_조회는_ID_페이지를_먼저_구하고_컬렉션은_ID로_채운다() {
+        QueryPlanRecorder.clear();
+        todoRepository.findTodoDetails(null, null, null, PageRequest.of(3, 10));
+        List<QueryPlanRecorder.RecordedQuery> recorded = QueryPlanRecorder.queries();
+
+        // 컬렉션 fetch join 쿼리에는 offset/limit 이 없어야 메모리 페이지네이션이 일어나지 않습니다.
+        assertThat(recorded.get(0).sql()).doesNotContain("join").contains("offset");
+        assertThat(recorded.get(1).sql()).contains("join").doesNotContain("offset");
+
+        List<String> plans = explain(() -> todoRepository.findTodoDetails(null, null, null, PageRequest.of(3, 10)));
+        assertNoFullScan(plans);
+        assertThat(plans.get(0)).contains("idx_todos_modified_at_id").contains("index sorted");
+    }
+
+    @Test
+    void 커서_목록_조회는_전체_스캔하지_않는다() {
+        List<String> plans = explain(() -> todoRepository.findTodosAfterCursor(null, null, null, new SeekCursor(now, 100L), 11));
+
+        assertNoFullScan(plans);
+        assertThat(plans.get(0)).contains("idx_todos_modified_at_id").contains("index sorted");
+    }
+
+    @Test
+    void 조건_없는_검색은_생성일_인덱스_순서로_정렬한다() {
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, null, null);
+        List<String> plans = explain(() -> {
+            todoRepository.fetchScheduleTitlesWithCounts(condition, 20, 10);
+            todoRepository.countScheduleTitles(condition);
+        });
+
+        assertNoFullScan(plans);
+        assertThat(plans.get(0)).contains("idx_todos_created_at").contains("index sorted");
+    }
+
+    @Test
+    void 기간_조건_검색은_생성일_인덱스를_사용한다() {
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, now.minusDays(1), now.plusDays(1));
+        List<String> plans = explain(() -> {
+            todoRepository.fetchScheduleTitlesWithCounts(condition, 0, 10);
+            todoRepository.countScheduleTitles(condition);
+        });
+
+        assertNoFullScan(plans);
+        assertThat(plans.get(0)).contains("idx_todos_created_at").contains("index sorted");
+    }
+
+    @Test
+    void 제목_검색은_토큰_인덱스로_후보를_찾는다() {
+        TodoSearchCondition condition = TodoSearchCondition.of("title12", null, null, null);
+        List<String> plans = explain(() -> {
+            todoRepository.fetchScheduleTitlesWithCounts(condition, 0, 10);
+            todoRepository.countScheduleTitles(condition);
+        });
+
+        assertNoFullScan(plans);
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).contains("idx_todo_title_tokens_token"));
+    }
+
+    @Test
+    void 담당자_닉네임_검색은_토큰_인덱스로_후보를_찾는다() {
+        TodoSearchCondition condition = TodoSearchCondition.of(null, "nick", null, null);
+        List<String> plans = explain(() -> {
+            todoRepository.fetchScheduleTitlesWithCounts(condition, 0, 10);
+            todoRepository.countScheduleTitles(condition);
+        });
+
+        assertNoFullScan(plans);
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).contains("idx_manager_nickname_tokens_token"));
+    }
+
+    private List<String> explain(Runnable queries) {
+        QueryPlanRecorder.clear();
+        queries.run();
+
+        List<QueryPlanRecorder.RecordedQuery> recorded = QueryPlanRecorder.queries();
+        assertThat(recorded).isNotEmpty();
+
+        return recorded.stream()
+                .map(query -> jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.parameters().toArray()))
+                .toList();
+    }
+
+    private static void assertNoFullScan(List<String> plans) {
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).doesNotContain("tableScan"));
+    }
+}
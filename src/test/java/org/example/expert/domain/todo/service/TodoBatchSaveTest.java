@@ -0,0 +1,179 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일정 일괄 생성이 날씨를 한 번만 조회하고, 일정마다 작성자 담당자와 카운터를 채워 JDBC 배치로 저장하는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-batch-save;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebConfig.class, PersistenceConfig.class, TodoService.class, TodoSearchCountCache.class})
+class TodoBatchSaveTest {
+
+    private static final int COUNT = 250;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoService todoService;
+
+    @MockBean
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Autowired
+    private JdbcCallCounter jdbcCallCounter;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User("owner@example.com", "owner", "password", UserRole.USER);
+        entityManager.persist(owner);
+        entityManager.flush();
+        authUser = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole(), owner.getNickname());
+
+        given(todoWeatherEnricher.weatherForNewTodo()).willReturn("Sunny");
+        jdbcCallCounter.reset();
+    }
+
+    @Test
+    void 날씨는_요청마다_한_번만_조회하고_일정마다_작성자를_담당자로_저장한다() {
+        // when
+        List<TodoSaveResponse> responses = todoService.saveTodos(authUser, request(COUNT));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        verify(todoWeatherEnricher, times(1)).weatherForNewTodo();
+        verify(todoWeatherEnricher, times(1)).enrichAfterCommit(anyList());
+        assertThat(responses).hasSize(COUNT).allSatisfy(response -> assertThat(response.getWeather()).isEqualTo("Sunny"));
+
+        List<Todo> todos = entityManager.createQuery("select t from Todo t", Todo.class).getResultList();
+        assertThat(todos).hasSize(COUNT).allSatisfy(todo -> {
+            assertThat(todo.getManagerCount()).isEqualTo(1);
+            assertThat(todo.getCommentCount()).isZero();
+            assertThat(todo.getWeather()).isEqualTo("Sunny");
+        });
+        List<Manager> managers = entityManager.createQuery("select m from Manager m join fetch m.user", Manager.class).getResultList();
+        assertThat(managers).hasSize(COUNT).allSatisfy(manager -> assertThat(manager.getUser().getId()).isEqualTo(authUser.getId()));
+    }
+
+    @Test
+    void 일정과_담당자와_토큰_INSERT_는_batch_size_단위로_묶어서_실행한다() {
+        // when
+        todoService.saveTodos(authUser, request(COUNT));
+        entityManager.flush();
+
+        // then: 테이블마다 100건씩 묶어 실행하고, 한 건씩 실행한 INSERT 는 없습니다.
+        long titleTokens = countRows("todo_title_tokens");
+        long nicknameTokens = countRows("manager_nickname_tokens");
+        assertThat(jdbcCallCounter.singleUpdates.get()).isZero();
+        assertThat(jdbcCallCounter.batches.get()).isEqualTo(
+                batches(COUNT) + batches(COUNT) + batches(titleTokens) + batches(nicknameTokens));
+    }
+
+    private long countRows(String table) {
+        return ((Number) entityManager.createNativeQuery("select count(*) from " + table).getSingleResult()).longValue();
+    }
+
+    private static long batches(long rows) {
+        return (rows + 99) / 100;
+    }
+
+    private static TodoBatchSaveRequest request(int count) {
+        return new TodoBatchSaveRequest(IntStream.range(0, count)
+                .mapToObj(i -> new TodoSaveRequest("title " + i, "contents"))
+                .toList());
+    }
+
+    /**
+     * DataSource 를 감싸 PreparedStatement 의 executeBatch 와 단건 실행 횟수를 셉니다.
+     */
+    @TestConfiguration
+    static class JdbcCallCounter implements BeanPostProcessor {
+
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger singleUpdates = new AtomicInteger();
+
+        void reset() {
+            batches.set(0);
+            singleUpdates.set(0);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return proxy(DataSource.class, dataSource, (method, result) ->
+                    result instanceof Connection connection ? proxy(Connection.class, connection, (m, r) ->
+                            r instanceof PreparedStatement statement ? proxy(PreparedStatement.class, statement, this::count) : r) : result);
+        }
+
+        private Object count(Method method, Object result) {
+            switch (method.getName()) {
+                case "executeBatch" -> batches.incrementAndGet();
+                case "executeUpdate", "executeLargeUpdate" -> singleUpdates.incrementAndGet();
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, BiFunction<Method, Object, Object> afterCall) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterCall.apply(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
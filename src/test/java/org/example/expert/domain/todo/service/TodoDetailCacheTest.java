@@ -0,0 +1,136 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일정 단건 조회 캐시를 실제 CacheConfig 와 application.yml 의 spring.cache 설정(Caffeine)으로 검증합니다.
+ * 서비스는 캐시 프록시를 거쳐 호출되고, 리포지토리만 목으로 둡니다.
+ */
+@SpringBootTest(classes = {CacheConfig.class, TodoService.class, CommentService.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class TodoDetailCacheTest {
+
+    private static final long TODO_ID = 1L;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private TodoRepository todoRepository;
+    @MockBean
+    private CommentRepository commentRepository;
+    @MockBean
+    private TodoWeatherEnricher todoWeatherEnricher;
+    @MockBean
+    private TodoSearchCountCache todoSearchCountCache;
+    @MockBean
+    private TodoOwnerCache todoOwnerCache;
+
+    private final AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER, "nickname");
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Todo todo = todo();
+        given(todoRepository.findByIdWithUser(TODO_ID)).willReturn(Optional.of(todo));
+        given(todoRepository.getReferenceById(TODO_ID)).willReturn(todo);
+        given(todoOwnerCache.findOwnerId(TODO_ID)).willReturn(Optional.of(1L));
+        given(commentRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void Caffeine_캐시_매니저를_사용한다() {
+        assertThat(cacheManager).isInstanceOf(CaffeineCacheManager.class);
+    }
+
+    @Test
+    void 같은_일정을_다시_조회하면_캐시에서_반환한다() {
+        // when
+        TodoResponse first = todoService.getTodo(TODO_ID);
+        TodoResponse second = todoService.getTodo(TODO_ID);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(todoRepository, times(1)).findByIdWithUser(TODO_ID);
+    }
+
+    @Test
+    void 댓글을_작성하면_일정_캐시를_비운다() {
+        // given
+        todoService.getTodo(TODO_ID);
+
+        // when
+        commentService.saveComment(authUser, TODO_ID, new CommentSaveRequest("contents"));
+        todoService.getTodo(TODO_ID);
+
+        // then
+        verify(todoRepository, times(2)).findByIdWithUser(TODO_ID);
+    }
+
+    @Test
+    void 캐시를_끄면_매번_DB_에서_조회한다() {
+        // given
+        TodoRepository repository = mock(TodoRepository.class);
+        given(repository.findByIdWithUser(TODO_ID)).willReturn(Optional.of(todo()));
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+                .withUserConfiguration(CacheConfig.class, TodoService.class)
+                .withBean(TodoRepository.class, () -> repository)
+                .withBean(TodoWeatherEnricher.class, () -> mock(TodoWeatherEnricher.class))
+                .withBean(TodoSearchCountCache.class, () -> mock(TodoSearchCountCache.class))
+                .withPropertyValues("spring.cache.type=none", "spring.cache.cache-names=" + CacheConfig.TODO_DETAIL)
+                .run(context -> {
+                    // when
+                    TodoService service = context.getBean(TodoService.class);
+                    service.getTodo(TODO_ID);
+                    service.getTodo(TODO_ID);
+
+                    // then
+                    assertThat(context.getBean(CacheManager.class)).isInstanceOf(NoOpCacheManager.class);
+                    verify(repository, times(2)).findByIdWithUser(TODO_ID);
+                });
+    }
+
+    private static Todo todo() {
+        Todo todo = new Todo("title", "contents", "Sunny", new User("user@example.com", "nickname", "password", UserRole.USER));
+        ReflectionTestUtils.setField(todo, "id", TODO_ID);
+        return todo;
+    }
+}
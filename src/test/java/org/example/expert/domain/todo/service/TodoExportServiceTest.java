@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.export.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodoExportServiceTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+
+    @Test
+    void max_rows를_넘으면_그_지점에서_내보내기를_멈춘다() throws IOException {
+        // given
+        TodoExportService service = newService(3, Duration.ofMinutes(5));
+        givenRows(10);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        service.exportTodos(TodoExportFormat.NDJSON, null, null, null, null, null, out);
+
+        // then
+        assertEquals(3, out.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    void max_duration이_지나면_더_이상_행을_쓰지_않는다() throws IOException {
+        // given
+        TodoExportService service = newService(100, Duration.ZERO);
+        givenRows(10);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        service.exportTodos(TodoExportFormat.CSV, null, null, null, null, null, out);
+
+        // then: 헤더만 남습니다.
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    private TodoExportService newService(long maxRows, Duration maxDuration) {
+        return new TodoExportService(
+                todoRepository,
+                mock(EntityManager.class),
+                Jackson2ObjectMapperBuilder.json().build(),
+                1000,
+                2,
+                maxRows,
+                maxDuration
+        );
+    }
+
+    private void givenRows(int count) {
+        when(todoRepository.streamTodosForExport(any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(LongStream.rangeClosed(1, count)
+                        .mapToObj(id -> new TodoExportRow(id, "title", "contents", null, 1L, "a@a.com", 0L, 0L, null, null)));
+    }
+}
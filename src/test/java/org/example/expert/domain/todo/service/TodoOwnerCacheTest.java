@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoOwnerCacheTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+
+    @Test
+    void 작성자_ID는_한_번만_조회하고_이후에는_캐시에서_반환한다() {
+        TodoOwnerCache todoOwnerCache = new TodoOwnerCache(todoRepository, true, Duration.ofMinutes(10), 100);
+        when(todoRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+
+        assertThat(todoOwnerCache.findOwnerId(1L)).contains(7L);
+        assertThat(todoOwnerCache.findOwnerId(1L)).contains(7L);
+
+        verify(todoRepository, times(1)).findOwnerIdById(1L);
+    }
+
+    @Test
+    void 존재하지_않는_일정은_캐싱하지_않아_나중에_생기면_찾을_수_있다() {
+        TodoOwnerCache todoOwnerCache = new TodoOwnerCache(todoRepository, true, Duration.ofMinutes(10), 100);
+        when(todoRepository.findOwnerIdById(1L)).thenReturn(Optional.empty(), Optional.of(7L));
+
+        assertThat(todoOwnerCache.findOwnerId(1L)).isEmpty();
+        assertThat(todoOwnerCache.findOwnerId(1L)).contains(7L);
+
+        verify(todoRepository, times(2)).findOwnerIdById(1L);
+    }
+
+    @Test
+    void 비활성화하면_매번_조회한다() {
+        TodoOwnerCache todoOwnerCache = new TodoOwnerCache(todoRepository, false, Duration.ofMinutes(10), 100);
+        when(todoRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+
+        todoOwnerCache.findOwnerId(1L);
+        todoOwnerCache.findOwnerId(1L);
+
+        verify(todoRepository, times(2)).findOwnerIdById(1L);
+    }
+}
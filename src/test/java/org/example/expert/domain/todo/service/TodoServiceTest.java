@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TodoServiceTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoService todoService = new TodoService(todoRepository, mock(TodoWeatherEnricher.class),
+            new TodoSearchCountCache(true, Duration.ofSeconds(30), 100));
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101, Integer.MAX_VALUE})
+    void 커서_목록_조회의_size_가_범위를_벗어나면_예외가_발생한다(int size) {
+        assertThatThrownBy(() -> todoService.getTodosByCursor(null, size, null, null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("size는 1 이상 100 이하여야 합니다.");
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 커서_목록_조회는_다음_페이지_확인용으로_size_보다_하나_더_조회한다() {
+        when(todoRepository.findTodosAfterCursor(any(), any(), any(), any(), eq(101))).thenReturn(List.of());
+
+        assertThat(todoService.getTodosByCursor(null, 100, null, null, null).getNextCursor()).isNull();
+    }
+
+    @Test
+    void 검색_슬라이스는_size_보다_하나_더_조회해_남는_행이_있으면_다음_페이지가_있다고_판단한다() {
+        // given
+        when(todoRepository.fetchScheduleTitlesWithCounts(any(), eq(2L), eq(3)))
+                .thenReturn(List.of(result("a"), result("b"), result("c")));
+
+        // when
+        Slice<TodoSearchResponse> slice = todoService.getTodosSearchSlice(2, 2, null, null, null, null);
+
+        // then
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent()).extracting(TodoSearchResponse::title).containsExactly("a", "b");
+        verify(todoRepository, never()).countScheduleTitles(any());
+    }
+
+    @Test
+    void 검색_슬라이스는_조회한_행이_size_와_같으면_마지막_페이지로_판단한다() {
+        // given
+        when(todoRepository.fetchScheduleTitlesWithCounts(any(), eq(0L), eq(3)))
+                .thenReturn(List.of(result("a"), result("b")));
+
+        // when
+        Slice<TodoSearchResponse> slice = todoService.getTodosSearchSlice(1, 2, null, null, null, null);
+
+        // then
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.getContent()).extracting(TodoSearchResponse::title).containsExactly("a", "b");
+    }
+
+    @Test
+    void 같은_조건으로_다시_검색하면_캐싱된_전체_개수를_사용한다() {
+        // given
+        givenFullPages();
+        when(todoRepository.countScheduleTitles(any())).thenReturn(10L);
+
+        // when
+        todoService.getTodosSearch(1, 2, "Title", null, null, null);
+        Page<TodoSearchResponse> page = todoService.getTodosSearch(2, 2, "title", null, null, null);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        verify(todoRepository, times(1)).countScheduleTitles(any());
+    }
+
+    @Test
+    void 다른_조건으로_검색하면_전체_개수를_다시_조회한다() {
+        // given
+        givenFullPages();
+        when(todoRepository.countScheduleTitles(TodoSearchCondition.of("title", null, null, null))).thenReturn(10L);
+        when(todoRepository.countScheduleTitles(TodoSearchCondition.of("other", null, null, null))).thenReturn(4L);
+
+        // when
+        todoService.getTodosSearch(1, 2, "title", null, null, null);
+        Page<TodoSearchResponse> page = todoService.getTodosSearch(1, 2, "other", null, null, null);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        verify(todoRepository, times(2)).countScheduleTitles(any());
+    }
+
+    private void givenFullPages() {
+        // 페이지가 가득 차야 전체 개수를 조회합니다.
+        when(todoRepository.fetchScheduleTitlesWithCounts(any(), anyLong(), eq(2)))
+                .thenReturn(List.of(result("a"), result("b")));
+    }
+
+    private static TodoSearchResponse result(String title) {
+        return new TodoSearchResponse(title, 1L, 0L);
+    }
+}
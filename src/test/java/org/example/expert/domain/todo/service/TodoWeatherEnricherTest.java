@@ -0,0 +1,148 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoCreatedAt;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoWeatherEnricherTest {
+
+    private static final LocalDate MARCH_5 = LocalDate.of(2026, 3, 5);
+    private static final LocalDate MARCH_6 = LocalDate.of(2026, 3, 6);
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final WeatherProvider weatherProvider = mock(WeatherProvider.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.TODO_DETAIL);
+    private final TodoWeatherEnricher enricher = new TodoWeatherEnricher(
+            todoRepository, weatherProvider, cacheManager, true, 100, 2, Duration.ofSeconds(30), "Unknown");
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 커밋된_일정만_큐에_넣고_drain에서_생성일별로_날씨를_채운다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        enricher.enrichAfterCommit(List.of(1L, 2L));
+        when(todoRepository.findWeatherPendingByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new TodoCreatedAt(1L, MARCH_5.atTime(9, 0)),
+                new TodoCreatedAt(2L, MARCH_6.atTime(9, 0))
+        ));
+        when(weatherProvider.findWeather(MARCH_5)).thenReturn(Optional.of("Sunny"));
+        when(weatherProvider.findWeather(MARCH_6)).thenReturn(Optional.of("Rain"));
+        Cache cache = cacheManager.getCache(CacheConfig.TODO_DETAIL);
+        cache.put(1L, "stale");
+
+        // when: 커밋 전에는 큐가 비어 있습니다.
+        enricher.drain();
+        verify(todoRepository, never()).findWeatherPendingByIdIn(anyList());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        enricher.drain();
+
+        // then
+        verify(todoRepository).fillWeather(List.of(1L), "Sunny");
+        verify(todoRepository).fillWeather(List.of(2L), "Rain");
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void 큐가_가득_차면_넘친_일정은_버린다() {
+        // given: 큐 크기는 2 입니다.
+        TransactionSynchronizationManager.initSynchronization();
+        enricher.enrichAfterCommit(List.of(1L, 2L, 3L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        when(todoRepository.findWeatherPendingByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new TodoCreatedAt(1L, MARCH_5.atTime(9, 0)),
+                new TodoCreatedAt(2L, MARCH_5.atTime(9, 0))
+        ));
+        when(weatherProvider.findWeather(MARCH_5)).thenReturn(Optional.of("Sunny"));
+
+        // when
+        enricher.drain();
+
+        // then: 버려진 일정은 reconcile 에서 채웁니다.
+        verify(todoRepository).fillWeather(List.of(1L, 2L), "Sunny");
+        verify(todoRepository, never()).fillWeather(eq(List.of(3L)), any());
+    }
+
+    @Test
+    void reconcile은_남은_일정을_id_순으로_페이지를_넘기며_채운다() {
+        // given
+        when(todoRepository.findWeatherPendingIds(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(todoRepository.findWeatherPendingIds(eq(2L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(todoRepository.findWeatherPendingByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new TodoCreatedAt(1L, MARCH_5.atTime(9, 0)),
+                new TodoCreatedAt(2L, MARCH_5.atTime(10, 0))
+        ));
+        when(weatherProvider.findWeather(MARCH_5)).thenReturn(Optional.of("Sunny"));
+
+        // when
+        enricher.reconcile();
+
+        // then
+        verify(todoRepository).fillWeather(List.of(1L, 2L), "Sunny");
+    }
+
+    @Test
+    void 날씨_표에_날짜가_없으면_대체_값으로_채워_다시_시도하지_않는다() {
+        // given
+        when(todoRepository.findWeatherPendingIds(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L), List.of());
+        when(todoRepository.findWeatherPendingByIdIn(List.of(1L)))
+                .thenReturn(List.of(new TodoCreatedAt(1L, MARCH_5.atTime(9, 0))));
+        when(weatherProvider.findWeather(MARCH_5)).thenReturn(Optional.empty());
+
+        // when
+        enricher.reconcile();
+
+        // then
+        verify(todoRepository).fillWeather(List.of(1L), "Unknown");
+    }
+
+    @Test
+    void 날씨_표를_내려받지_못하면_비워_두고_다음_재처리에서_다시_시도한다() {
+        // given
+        when(todoRepository.findWeatherPendingIds(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L), List.of());
+        when(todoRepository.findWeatherPendingByIdIn(List.of(1L)))
+                .thenReturn(List.of(new TodoCreatedAt(1L, MARCH_5.atTime(9, 0))));
+        when(weatherProvider.findWeather(MARCH_5)).thenThrow(new ServerException("날씨 데이터를 가져오는데 실패했습니다."));
+
+        // when
+        enricher.reconcile();
+
+        // then
+        verify(todoRepository, never()).fillWeather(anyList(), any());
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebConfig.class, PersistenceConfig.class})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 기존_해시가_그대로면_비밀번호를_갱신한다() {
+        User user = userRepository.saveAndFlush(new User("user@example.com", "nickname", "old-hash", UserRole.USER));
+
+        int updated = userRepository.updatePasswordIfUnchanged(user.getId(), "old-hash", "new-hash");
+
+        entityManager.clear();
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo("new-hash");
+    }
+
+    @Test
+    void 그_사이_비밀번호가_바뀌었으면_갱신하지_않는다() {
+        User user = userRepository.saveAndFlush(new User("user@example.com", "nickname", "old-hash", UserRole.USER));
+        user.changePassword("changed-hash");
+        userRepository.flush();
+
+        int updated = userRepository.updatePasswordIfUnchanged(user.getId(), "old-hash", "rehashed-old-password");
+
+        entityManager.clear();
+        assertThat(updated).isZero();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo("changed-hash");
+    }
+}
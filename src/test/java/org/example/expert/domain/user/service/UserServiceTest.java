@@ -0,0 +1,70 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.VerifiedTokenCache;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 1, 10, Duration.ofSeconds(5), 4);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+    private final UserService userService = new UserService(userRepository, passwordEncoder, verifiedTokenCache);
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 조회한_해시가_그대로일_때만_새_비밀번호를_저장하고_토큰을_폐기한다() {
+        // given
+        String oldHash = givenUser("OldPassword1");
+        when(userRepository.updatePasswordIfUnchanged(eq(1L), eq(oldHash), startsWith("$2a$04$"))).thenReturn(1);
+
+        // when
+        userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", "NewPassword1"));
+
+        // then
+        verify(userRepository).updatePasswordIfUnchanged(eq(1L), eq(oldHash), startsWith("$2a$04$"));
+        verify(verifiedTokenCache).revokeAfterCommit(1L);
+    }
+
+    @Test
+    void 비교하는_동안_다른_요청이_비밀번호를_바꿨다면_저장하지_않고_예외를_던진다() {
+        // given
+        String oldHash = givenUser("OldPassword1");
+        when(userRepository.updatePasswordIfUnchanged(eq(1L), eq(oldHash), startsWith("$2a$04$"))).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", "NewPassword1")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("비밀번호가 다른 요청으로 변경되었습니다. 다시 시도해 주세요.");
+        verify(verifiedTokenCache, never()).revokeAfterCommit(anyLong());
+    }
+
+    private String givenUser(String rawPassword) {
+        String hash = passwordEncoder.encode(rawPassword);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User("user@example.com", "nickname", hash, UserRole.USER)));
+        return hash;
+    }
+}